@@ -23,8 +23,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,16 +60,54 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, config.isWriteBehindSave());
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the file at {@code addressBookFilePath}, of the kind chosen by
+     * {@code config}'s storage mode.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path addressBookFilePath) {
+        switch (config.getStorageMode()) {
+        case JOURNALED:
+            logger.info("Using journaled storage for " + addressBookFilePath);
+            return new JournaledAddressBookStorage(addressBookFilePath,
+                    JournaledAddressBookStorage.DEFAULT_MAX_JOURNAL_RECORDS,
+                    JournaledAddressBookStorage.DEFAULT_MAX_JOURNAL_BYTES, config.getGroupCommitMillis());
+        case BINARY:
+            logger.info("Using binary storage for " + addressBookFilePath);
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case SEGMENTED:
+            logger.info("Using segmented storage for " + addressBookFilePath);
+            return new SegmentedAddressBookStorage(addressBookFilePath);
+        case JSON:
+        default:
+            convertBinarySnapshotToJson(addressBookFilePath);
+            return new JsonAddressBookStorage(addressBookFilePath, config.isCompactJsonSave(),
+                    config.isParallelLoad(), config.getGroupCommitMillis());
+        }
+    }
+
+    /**
+     * Carries the data in a binary snapshot left by binary storage back into the json file at
+     * {@code addressBookFilePath}. The json file is left as it is if that fails.
+     */
+    private void convertBinarySnapshotToJson(Path addressBookFilePath) {
+        try {
+            BinaryAddressBookStorage.convertToJson(addressBookFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert the binary snapshot of " + addressBookFilePath + " back to json: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +218,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -14,9 +14,28 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * The ways the address book can be stored on the hard disk.
+     */
+    public enum StorageMode {
+        /** The whole address book is rewritten as one json file on every save. */
+        JSON,
+        /** Each save appends the changes to a journal, which is compacted into the json file from time to time. */
+        JOURNALED,
+        /** The whole address book is rewritten as one binary snapshot next to the json file on every save. */
+        BINARY,
+        /** The persons, lessons and enrollments are kept in separate files, and only the changed ones are saved. */
+        SEGMENTED
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean writeBehindSave = false;
+    private StorageMode storageMode = StorageMode.JSON;
+    private boolean compactJsonSave = false;
+    private boolean parallelLoad = false;
+    private long groupCommitMillis = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +53,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isWriteBehindSave() {
+        return writeBehindSave;
+    }
+
+    public void setWriteBehindSave(boolean writeBehindSave) {
+        this.writeBehindSave = writeBehindSave;
+    }
+
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    public boolean isCompactJsonSave() {
+        return compactJsonSave;
+    }
+
+    public void setCompactJsonSave(boolean compactJsonSave) {
+        this.compactJsonSave = compactJsonSave;
+    }
+
+    public boolean isParallelLoad() {
+        return parallelLoad;
+    }
+
+    public void setParallelLoad(boolean parallelLoad) {
+        this.parallelLoad = parallelLoad;
+    }
+
+    public long getGroupCommitMillis() {
+        return groupCommitMillis;
+    }
+
+    public void setGroupCommitMillis(long groupCommitMillis) {
+        this.groupCommitMillis = groupCommitMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +106,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehindSave == otherConfig.writeBehindSave
+                && storageMode == otherConfig.storageMode
+                && compactJsonSave == otherConfig.compactJsonSave
+                && parallelLoad == otherConfig.parallelLoad
+                && groupCommitMillis == otherConfig.groupCommitMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindSave, storageMode, compactJsonSave, parallelLoad,
+                groupCommitMillis);
     }
 
     @Override
@@ -60,6 +125,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehindSave", writeBehindSave)
+                .add("storageMode", storageMode)
+                .add("compactJsonSave", compactJsonSave)
+                .add("parallelLoad", parallelLoad)
+                .add("groupCommitMillis", groupCommitMillis)
                 .toString();
     }
 
@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +16,15 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes some content to a given file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Path file) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +93,50 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces {@code file} with the content that {@code contentWriter} writes, without ever leaving {@code file}
+     * partly written. The content is written to a temp file next to {@code file}, forced to disk, and then moved over
+     * {@code file} in one step. Creates the missing parent directories of {@code file}.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        contentWriter.write(getTempFile(file));
+        commitTempFile(file);
+    }
+
+    /**
+     * Returns the temp file that content for {@code file} is written to before it replaces {@code file}.
+     */
+    static Path getTempFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Forces the temp file of {@code file} to disk and moves it over {@code file}.
+     */
+    static void commitTempFile(Path file) throws IOException {
+        Path tempFile = getTempFile(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceParentDir(file);
+    }
+
+    /**
+     * Forces the directory entries of the parent directory of {@code file} to disk, so that a move into it lasts.
+     */
+    private static void forceParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open directories, in which case the move is left to the OS to write out
+        }
+    }
+
 }
@@ -0,0 +1,161 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Replaces files without ever leaving them partly written, like {@link FileUtil#writeAtomically}, but lets writes
+ * that follow each other closely share one disk flush.
+ *
+ * Each write goes to the temp file of its file. A write that comes at least {@code commitInterval} after the last
+ * commit of its file is committed, that is forced to disk and moved over the file, straight away. Later writes are
+ * committed together in the background once the interval since the last commit has passed, and only the latest of
+ * them is ever forced to disk. A crash can thus lose at most the writes of the last interval, and always leaves the
+ * last committed content in place. A failed background commit is reported by the next write, and {@link #flush()}
+ * commits any pending write straight away.
+ *
+ * Files can also be appended to, in which case a commit only forces the file to disk, on the same schedule. A crash
+ * can then lose the appends of the last interval, but never those before. A file is either replaced or appended to
+ * through a writer, not both.
+ */
+public class GroupCommitFileWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(GroupCommitFileWriter.class);
+
+    private final long commitIntervalNanos;
+    private final ScheduledExecutorService committer;
+    private final Map<Path, Long> lastCommitTimes = new HashMap<>();
+    private final Set<Path> pendingFiles = new HashSet<>();
+    private final Set<Path> appendedFiles = new HashSet<>();
+    private IOException commitFailure;
+
+    /**
+     * Creates a writer that commits each file at most once every {@code commitIntervalMillis} milliseconds.
+     * An interval of 0 commits every write straight away.
+     */
+    public GroupCommitFileWriter(long commitIntervalMillis) {
+        if (commitIntervalMillis < 0) {
+            throw new IllegalArgumentException("Commit interval cannot be negative");
+        }
+        commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+        committer = commitIntervalMillis == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-committer");
+            // flush() is what keeps writes from being lost on exit, so the committer must not keep the app alive
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Replaces {@code file} with the content that {@code contentWriter} writes, now or within the commit interval.
+     *
+     * @throws IOException if the content could not be written, or an earlier background commit failed.
+     */
+    public synchronized void write(Path file, FileUtil.ContentWriter contentWriter) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+        throwCommitFailure();
+
+        FileUtil.createParentDirsOfFile(file);
+        contentWriter.write(FileUtil.getTempFile(file));
+        commitOrSchedule(file);
+    }
+
+    /**
+     * Appends {@code bytes} to {@code file}, creating it if needed, and forces it to disk now or within the commit
+     * interval.
+     *
+     * @throws IOException if the bytes could not be appended, or an earlier background commit failed.
+     */
+    public synchronized void append(Path file, byte[] bytes) throws IOException {
+        requireNonNull(file);
+        requireNonNull(bytes);
+        throwCommitFailure();
+
+        FileUtil.createParentDirsOfFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        appendedFiles.add(file);
+        commitOrSchedule(file);
+    }
+
+    private void commitOrSchedule(Path file) throws IOException {
+        long now = System.nanoTime();
+        Long lastCommitTime = lastCommitTimes.get(file);
+        if (committer == null || lastCommitTime == null || now - lastCommitTime >= commitIntervalNanos) {
+            commit(file);
+        } else if (pendingFiles.add(file)) {
+            committer.schedule(() -> commitInBackground(file), lastCommitTime + commitIntervalNanos - now,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Commits every write that is still pending.
+     *
+     * @throws IOException if a pending write could not be committed, or an earlier background commit failed.
+     */
+    public synchronized void flush() throws IOException {
+        for (Path file : new ArrayList<>(pendingFiles)) {
+            commit(file);
+        }
+        throwCommitFailure();
+    }
+
+    private synchronized void commitInBackground(Path file) {
+        if (!pendingFiles.contains(file)) {
+            // already committed by a flush
+            return;
+        }
+
+        try {
+            commit(file);
+        } catch (IOException ioe) {
+            logger.warning("Failed to commit " + file + " in the background: " + ioe.getMessage());
+            commitFailure = ioe;
+        }
+    }
+
+    private void commit(Path file) throws IOException {
+        pendingFiles.remove(file);
+        if (!appendedFiles.remove(file)) {
+            FileUtil.commitTempFile(file);
+        } else if (Files.exists(file)) {
+            // an appended file that has since been moved or deleted has nothing left to force
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.force(false);
+            }
+        }
+        lastCommitTimes.put(file, System.nanoTime());
+    }
+
+    private void throwCommitFailure() throws IOException {
+        IOException failure = commitFailure;
+        commitFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,8 +44,13 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Leaves flushing to the generator's owner, so that values written one after another share a buffer
+    private static final ObjectWriter valueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        String json = toJsonString(objectToSerialize);
+        FileUtil.writeAtomically(jsonFile, tempFile -> FileUtil.writeToFile(tempFile, json));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -80,6 +90,7 @@ public class JsonUtil {
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced in one step, so it is never left partly written.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -92,6 +103,56 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the JSON data in {@code in} token by token. Closing the parser leaves {@code in}
+     * open, so that the caller can go on reading from it.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        JsonParser parser = objectMapper.getFactory().createParser(in);
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return parser;
+    }
+
+    /**
+     * Reads the JSON value at the current token of {@code parser} into an instance of a class, leaving the parser at
+     * the last token of that value.
+     */
+    public static <T> T fromJsonParser(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code filePath} as it is produced, overwriting the file if it
+     * exists. The output is indented if {@code isPretty} is true, and written on a single line otherwise.
+     * The caller is responsible for closing the generator, which also flushes and closes the file.
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isPretty) throws IOException {
+        requireNonNull(filePath);
+        return createGenerator(Files.newOutputStream(filePath), isPretty);
+    }
+
+    /**
+     * Similar to {@link #createGenerator(Path, boolean)}, but writes to {@code out}, which is closed along with the
+     * generator.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPretty) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        if (isPretty) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Writes {@code instance} as a JSON value at the current position of {@code generator}.
+     * The generator is not flushed, so that many values can share its buffer.
+     */
+    public static <T> void toJsonGenerator(JsonGenerator generator, T instance) throws IOException {
+        valueWriter.writeValue(generator, instance);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +172,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
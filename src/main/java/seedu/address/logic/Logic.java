@@ -24,6 +24,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits for every save of the address book started by {@link #execute(String)} to finish.
+     */
+    void flush();
+
     /**
      * Returns the AddressBook.
      *
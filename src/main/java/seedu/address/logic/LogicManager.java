@@ -3,16 +3,23 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.lesson.Lesson;
@@ -21,6 +28,14 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * The address book is only saved after a command if its modification count shows that it changed since the last
+ * save, so commands that only read or filter the data do not write to storage.
+ * By default the address book is saved before {@code execute} returns. In write-behind mode, {@code execute} only
+ * takes a snapshot of the address book and hands it to a single background writer, which saves the latest snapshot
+ * and skips any that were replaced while it was busy. A failed background save is reported in the result of the next
+ * call to {@code execute}, after the feedback of that call's own command, and {@link #flush()} waits for the writer
+ * to finish.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -28,19 +43,38 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Modification count used when the address book has not been saved yet, or must be saved again. */
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final ExecutorService saveExecutor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+    private final AtomicLong performedSaveCount = new AtomicLong();
+    private final AtomicLong skippedSaveCount = new AtomicLong();
+    private long lastSavedModificationCount = UNSAVED;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book in the background if {@code isWriteBehind} is true.
+     */
+    public LogicManager(Model model, Storage storage, boolean isWriteBehind) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saveExecutor = isWriteBehind ? Executors.newSingleThreadExecutor(LogicManager::newSaveThread) : null;
     }
 
     @Override
@@ -51,15 +85,117 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        IOException failure = saveFailure.getAndSet(null);
+        if (failure != null) {
+            // the snapshot that failed to save was never written, so the next save must not be skipped
+            lastSavedModificationCount = UNSAVED;
+        }
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long modificationCount = addressBook.getModificationCount();
+        if (modificationCount == lastSavedModificationCount) {
+            skippedSaveCount.incrementAndGet();
+        } else if (saveExecutor == null) {
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException ioe) {
+                throw toCommandException(ioe);
+            }
+            performedSaveCount.incrementAndGet();
+            lastSavedModificationCount = modificationCount;
+        } else {
+            pendingSnapshot.set(AddressBookSnapshot.of(addressBook));
+            saveExecutor.execute(this::savePendingSnapshot);
+            lastSavedModificationCount = modificationCount;
+        }
+
+        if (failure != null) {
+            // the command has already changed the model, so its own result must still reach the user
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + toErrorMessage(failure),
+                    commandResult.isShowHelp(), commandResult.isExit(), commandResult.isShowLessons());
+        }
+        return commandResult;
+    }
+
+    /**
+     * Returns the number of times the address book has been written to storage.
+     */
+    public long getPerformedSaveCount() {
+        return performedSaveCount.get();
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book had not changed.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount.get();
+    }
+
+    @Override
+    public void flush() {
+        if (saveExecutor != null) {
+            waitForSaveExecutor();
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.flush();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            logger.severe("Failed to flush the address book " + StringUtil.getDetails(ioe));
         }
+        logger.info("Address book saved " + performedSaveCount.get() + " times, skipped "
+                + skippedSaveCount.get() + " times as unchanged");
+    }
 
-        return commandResult;
+    private void waitForSaveExecutor() {
+        // the writer runs tasks in order, so once this no-op has run every earlier save has finished
+        try {
+            saveExecutor.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the address book to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("A no-op task cannot fail", e);
+        }
+
+        IOException failure = saveFailure.get();
+        if (failure != null) {
+            logger.severe("Failed to save the address book " + StringUtil.getDetails(failure));
+        }
+    }
+
+    /**
+     * Saves the latest snapshot handed to the writer, unless an earlier run has already saved it.
+     */
+    private void savePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            performedSaveCount.incrementAndGet();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save the address book in the background: " + ioe.getMessage());
+            saveFailure.set(ioe);
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        return new CommandException(toErrorMessage(ioe), ioe);
+    }
+
+    private static String toErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    private static Thread newSaveThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        // flush() is what keeps saves from being lost on exit, so the writer must not keep the app alive by itself
+        thread.setDaemon(true);
+        return thread;
     }
 
     @Override
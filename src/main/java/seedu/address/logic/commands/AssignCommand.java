@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -44,6 +45,7 @@ public class AssignCommand extends Command {
             + "on: \"%s\". Enter \"assign n/%s i1/%s d/%s i2/{i2} \" to assign the student to the lesson "
             + "and vice versa.";
     public static final String MESSAGE_ASSIGN_SUCCESS = "Successfully assigned %s to %s";
+    public static final String MESSAGE_LESSON_CLASH = "The student already has a lesson that overlaps with it: %s";
 
     private final Name name;
     private final Index studentIndex;
@@ -111,6 +113,11 @@ public class AssignCommand extends Command {
             throw new CommandException(Messages.MESSAGE_STUDENT_ALREADY_ASSIGNED_LESSON);
         }
 
+        Optional<Lesson> clashingLesson = studentToAssign.getClashingLesson(lessonToAssign);
+        if (clashingLesson.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_LESSON_CLASH, Messages.format(clashingLesson.get())));
+        }
+
         model.assign(studentToAssign, lessonToAssign);
         model.refreshLists();
         return new CommandResult(String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(lessonToAssign),
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.predicates.HasClashingLessonsPredicate;
+
+/**
+ * Lists all students in the address book who are assigned to lessons that overlap each other.
+ */
+public class ClashesCommand extends Command {
+
+    public static final String COMMAND_WORD = "clashes";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists all students who are assigned to two or more lessons that overlap on the same day.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "%1$d students with clashing lessons listed!";
+    public static final String MESSAGE_NO_CLASHES = "No students have clashing lessons.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(new HasClashingLessonsPredicate());
+        model.setDisplayedListToPersons();
+
+        int clashingStudents = model.getFilteredPersonList().size();
+        if (clashingStudents == 0) {
+            return new CommandResult(MESSAGE_NO_CLASHES);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, clashingStudents));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        return other instanceof ClashesCommand;
+    }
+
+    @Override
+    public int hashCode() {
+        return ClashesCommand.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
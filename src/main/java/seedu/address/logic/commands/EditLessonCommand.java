@@ -52,6 +52,7 @@ public class EditLessonCommand extends Command {
     public static final String MESSAGE_EDIT_LESSON_SUCCESS = "Edited Lesson: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_LESSON = "This lesson already exists in the address book.";
+    public static final String MESSAGE_LESSON_CLASH = "Student %1$s already has a lesson that overlaps with it: %2$s";
 
     private final Index index;
     private final EditLessonDescriptor editLessonDescriptor;
@@ -89,6 +90,10 @@ public class EditLessonCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_LESSON);
         }
 
+        if (isMovedInTime(lessonToEdit, editedLesson)) {
+            checkNoClashForStudents(editedLesson);
+        }
+
         model.setLesson(lessonToEdit, editedLesson);
         model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
         model.setDisplayedListToLessons();
@@ -97,6 +102,25 @@ public class EditLessonCommand extends Command {
                                                Messages.format(editedLesson)), false, false, true);
     }
 
+    private static boolean isMovedInTime(Lesson lessonToEdit, Lesson editedLesson) {
+        return !lessonToEdit.getDay().equals(editedLesson.getDay())
+                || !lessonToEdit.getStartTime().equals(editedLesson.getStartTime())
+                || !lessonToEdit.getEndTime().equals(editedLesson.getEndTime());
+    }
+
+    /**
+     * Throws a {@code CommandException} if {@code editedLesson} overlaps another lesson of one of its students.
+     */
+    private static void checkNoClashForStudents(Lesson editedLesson) throws CommandException {
+        for (Person student : editedLesson.getStudents()) {
+            Optional<Lesson> clashingLesson = student.getClashingLesson(editedLesson);
+            if (clashingLesson.isPresent()) {
+                throw new CommandException(String.format(MESSAGE_LESSON_CLASH, student.getName(),
+                        Messages.format(clashingLesson.get())));
+            }
+        }
+    }
+
     /**
      * Creates and returns a {@code Lesson} with the details of {@code lessonToEdit}
      * edited with {@code editLessonDescriptor}.
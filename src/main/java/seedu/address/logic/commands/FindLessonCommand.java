@@ -1,14 +1,20 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.lesson.predicates.DayMatchesPredicate;
+import seedu.address.model.lesson.Lesson;
 
 /**
- * Finds and lists all lessons in address book by day.
+ * Finds and lists all lessons in address book by day, optionally narrowed down to the lessons that overlap a time
+ * window on that day.
  * Keyword matching is case insensitive.
  */
 public class FindLessonCommand extends Command {
@@ -16,14 +22,15 @@ public class FindLessonCommand extends Command {
     public static final String COMMAND_WORD = "findlesson";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Finds all lessons identified by day "
+            + ": Finds all lessons identified by day, or all lessons on a day that overlap a time window, "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: DAY\n"
-            + "Example: " + COMMAND_WORD + " MON";
+            + "Parameters: DAY or " + PREFIX_DAY + "DAY " + PREFIX_START_TIME + "FROM " + PREFIX_END_TIME + "TO\n"
+            + "Example: " + COMMAND_WORD + " MON or "
+            + COMMAND_WORD + " " + PREFIX_DAY + "TUE " + PREFIX_START_TIME + "1400 " + PREFIX_END_TIME + "1600";
 
-    private final DayMatchesPredicate predicate;
+    private final Predicate<Lesson> predicate;
 
-    public FindLessonCommand(DayMatchesPredicate predicate) {
+    public FindLessonCommand(Predicate<Lesson> predicate) {
         this.predicate = predicate;
     }
 
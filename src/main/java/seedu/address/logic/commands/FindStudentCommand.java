@@ -1,14 +1,17 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all students in address book whose name contains any of the argument keywords.
+ * Finds and lists all students in address book whose name contains the argument keyword, or who have the given tags.
  * Keyword matching is case insensitive.
  */
 public class FindStudentCommand extends Command {
@@ -18,12 +21,14 @@ public class FindStudentCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain the "
             + "the specified keyword (case-insensitive) and displays them as a list with index numbers.\n"
             + "The keyword may contain spaces, and all names with keyword as a substring will be displayed.\n"
-            + "Parameters: KEYWORD\n"
-            + "Example: " + COMMAND_WORD + " alice tan";
+            + "Alternatively, finds all students with every given tag, or with any of them if 'any' is given.\n"
+            + "Parameters: KEYWORD or [all|any] " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " alice tan, " + COMMAND_WORD + " any " + PREFIX_TAG + "Sec 3 "
+            + PREFIX_TAG + "Sec 4";
 
-    private final NameContainsKeywordPredicate predicate;
+    private final Predicate<Person> predicate;
 
-    public FindStudentCommand(NameContainsKeywordPredicate predicate) {
+    public FindStudentCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
     }
 
@@ -1,11 +1,19 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 
+import java.util.stream.Stream;
+
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindLessonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Time;
 import seedu.address.model.lesson.predicates.DayMatchesPredicate;
+import seedu.address.model.lesson.predicates.LessonOverlapsTimeWindowPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -18,6 +26,12 @@ public class FindLessonCommandParser implements Parser<FindLessonCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindLessonCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAY, PREFIX_START_TIME,
+                PREFIX_END_TIME);
+        if (isAnyPrefixPresent(argMultimap, PREFIX_DAY, PREFIX_START_TIME, PREFIX_END_TIME)) {
+            return parseTimeWindow(argMultimap);
+        }
+
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -38,4 +52,32 @@ public class FindLessonCommandParser implements Parser<FindLessonCommand> {
         return new FindLessonCommand(new DayMatchesPredicate(day));
     }
 
+    /**
+     * Parses the {@code d/DAY st/FROM et/TO} form of the command, which finds the lessons on a day that overlap
+     * a time window.
+     */
+    private static FindLessonCommand parseTimeWindow(ArgumentMultimap argMultimap) throws ParseException {
+        if (!isEveryPrefixPresent(argMultimap, PREFIX_DAY, PREFIX_START_TIME, PREFIX_END_TIME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DAY, PREFIX_START_TIME, PREFIX_END_TIME);
+        Day day = ParserUtil.parseDay(argMultimap.getValue(PREFIX_DAY).get());
+        Time from = ParserUtil.parseTime(argMultimap.getValue(PREFIX_START_TIME).get());
+        Time to = ParserUtil.parseTime(argMultimap.getValue(PREFIX_END_TIME).get());
+        if (to.isBeforeandEquals(from)) {
+            throw new ParseException(Messages.MESSAGE_END_TIME_CANNOT_BEFORE_START_TIME);
+        }
+        return new FindLessonCommand(new LessonOverlapsTimeWindowPredicate(day, from, to));
+    }
+
+    private static boolean isAnyPrefixPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+    private static boolean isEveryPrefixPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
 }
@@ -1,22 +1,35 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
 
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.predicates.HasTagsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindStudentCommandParser implements Parser<FindStudentCommand> {
 
+    private static final String MODE_ALL = "all";
+    private static final String MODE_ANY = "any";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindStudentCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        if (!argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
+            return parseTags(argMultimap);
+        }
+
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -26,4 +39,19 @@ public class FindStudentCommandParser implements Parser<FindStudentCommand> {
         return new FindStudentCommand(new NameContainsKeywordPredicate(trimmedArgs));
     }
 
+    /**
+     * Parses the {@code [all|any] t/TAG [t/TAG]...} form of the command, which finds the students with every given
+     * tag, or with any of them. Students must have every tag if neither {@code all} nor {@code any} is given.
+     */
+    private static FindStudentCommand parseTags(ArgumentMultimap argMultimap) throws ParseException {
+        String mode = argMultimap.getPreamble().toLowerCase();
+        if (!mode.isEmpty() && !mode.equals(MODE_ALL) && !mode.equals(MODE_ANY)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        return new FindStudentCommand(new HasTagsPredicate(tags, !mode.equals(MODE_ANY)));
+    }
+
 }
@@ -147,7 +147,7 @@ public class ParserUtil {
         if (!Time.isValidTime(trimmedTime)) {
             throw new ParseException(Time.MESSAGE_CONSTRAINTS);
         }
-        return new Time(trimmedTime);
+        return Time.of(trimmedTime);
     }
 
     /**
@@ -2,26 +2,44 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lesson.Day;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.lesson.Time;
 import seedu.address.model.lesson.UniqueLessonList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.UserId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Every change made through this class, including assigning and unassigning students, increments a modification
+ * count, so that callers can tell whether the data has changed since they last looked at it, and records the ids of
+ * the persons and lessons it changed in a {@link ChangeLog}, so that they can tell what changed.
+ * Which students are assigned to which lessons is kept in a single {@link Enrollment}, which the persons and lessons
+ * in the address book read their lessons and students from.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueLessonList lessons;
+    private final Enrollment enrollment;
+    private final ChangeLog changeLog = new ChangeLog();
 
     private int initialMaxUserId = 0;
     private int initialMaxLessonId = 0;
+    private long modificationCount = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -33,6 +51,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         lessons = new UniqueLessonList();
+        enrollment = new Enrollment(persons, lessons);
     }
 
     /**
@@ -48,6 +67,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public Optional<ChangeLog> getChangeLog() {
+        return Optional.of(changeLog);
+    }
+
     /// UserId and LessonId operations
 
     @Override
@@ -85,27 +114,83 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The persons replaced keep the lessons they were assigned to, and {@code persons} bring along theirs.
      */
     public void setPersons(List<Person> persons) {
+        List<Person> replaced = new ArrayList<>(this.persons.asUnmodifiableObservableList());
+        persons = ownInstancesOfPersons(persons);
         this.persons.setPersons(persons);
+        for (Person person : replaced) {
+            person.detach();
+            enrollment.removeStudent(person.getUserId());
+        }
+        for (Person person : persons) {
+            person.attachTo(enrollment);
+        }
+        modificationCount++;
+        recordChangedPersons(replaced);
+        recordChangedPersons(persons);
     }
 
     /**
      * Replaces the contents of the lesson list with {@code lessons}.
      * {@code lessons} must not contain duplicate lessons.
+     * The lessons replaced keep the students assigned to them, and {@code lessons} bring along theirs.
      */
     public void setLessons(List<Lesson> lessons) {
+        List<Lesson> replaced = new ArrayList<>(this.lessons.asUnmodifiableObservableList());
+        lessons = ownInstancesOfLessons(lessons);
         this.lessons.setLessons(lessons);
+        for (Lesson lesson : replaced) {
+            lesson.detach();
+            enrollment.removeLesson(lesson.getLessonId());
+        }
+        for (Lesson lesson : lessons) {
+            lesson.attachTo(enrollment);
+            enrollment.fileLesson(lesson);
+        }
+        modificationCount++;
+        for (Lesson lesson : replaced) {
+            changeLog.recordLesson(lesson.getLessonId(), modificationCount);
+        }
+        for (Lesson lesson : lessons) {
+            changeLog.recordLesson(lesson.getLessonId(), modificationCount);
+        }
+        // the lessons of any person may have changed
+        recordChangedPersons(this.persons.asUnmodifiableObservableList());
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The persons and lessons are copied, so that this address book and {@code newData} can change independently.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setLessons(newData.getLessonList());
+        List<Person> newPersons = new ArrayList<>(newData.getPersonList().size());
+        for (Person person : newData.getPersonList()) {
+            newPersons.add(new Person(person.getUserId(), person.getName(), person.getPhone(), person.getEmail(),
+                    person.getNote(), person.getTags()));
+        }
+        List<Lesson> newLessons = new ArrayList<>(newData.getLessonList().size());
+        for (Lesson lesson : newData.getLessonList()) {
+            newLessons.add(new Lesson(lesson.getLessonId(), lesson.getDay(), lesson.getStartTime(),
+                    lesson.getEndTime(), lesson.getVenue(), lesson.getNote()));
+        }
+        setPersons(newPersons);
+        setLessons(newLessons);
+
+        // Both sides are read, so that data where only one side records an assignment is still linked fully
+        for (Person person : newData.getPersonList()) {
+            for (Lesson lesson : person.getLessons()) {
+                enrollment.assign(person.getUserId(), lesson.getLessonId());
+            }
+        }
+        for (Lesson lesson : newData.getLessonList()) {
+            for (Person student : lesson.getStudents()) {
+                enrollment.assign(student.getUserId(), lesson.getLessonId());
+            }
+        }
         setInitialMaxUserId(newData.getInitialMaxUserId());
         setInitialMaxLessonId(newData.getInitialMaxLessonId());
     }
@@ -121,33 +206,109 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a person to the address book.
+     * Returns the persons in the address book whose names contain {@code keyword}, ignoring case, in list order.
+     */
+    public List<Person> getPersonsWithNameContaining(String keyword) {
+        return persons.getPersonsWithNameContaining(keyword);
+    }
+
+    /**
+     * Returns the persons in the address book that have every tag in {@code tags}, in list order.
+     */
+    public List<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        return persons.getPersonsWithAllTags(tags);
+    }
+
+    /**
+     * Returns the persons in the address book that have at least one tag in {@code tags}, in list order.
+     */
+    public List<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+        return persons.getPersonsWithAnyTag(tags);
+    }
+
+    /**
+     * Returns the students assigned to the lesson with the same id as {@code lesson}, in list order.
+     * Only the lesson's students are looked at, not the rest of the address book.
+     */
+    public List<Person> getStudentsOf(Lesson lesson) {
+        requireNonNull(lesson);
+        return persons.getPersonsWithIds(enrollment.getStudentIds(lesson.getLessonId()));
+    }
+
+    /**
+     * Returns the position in the person list of the person with the same id as {@code person}, or -1 if there is
+     * none.
+     */
+    public int indexOf(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Adds a person to the address book, together with the lessons it is assigned to.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        p = ownInstanceOf(p);
         persons.add(p);
+        p.attachTo(enrollment);
+        modificationCount++;
+        changeLog.recordPerson(p.getUserId(), modificationCount);
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * {@code editedPerson} is assigned to exactly the lessons it has, in place of the lessons of {@code target}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
+        editedPerson = ownInstanceOf(editedPerson);
 
+        Person existing = persons.getById(target.getUserId()).orElse(null);
+        // A copy, as the lessons of an attached person are a view of the enrollment about to change
+        List<Lesson> editedLessons = new ArrayList<>(editedPerson.getLessons());
         persons.setPerson(target, editedPerson);
+        existing.detach();
+        enrollment.removeStudent(existing.getUserId());
+        for (Lesson lesson : editedLessons) {
+            enrollment.assign(editedPerson.getUserId(), lesson.getLessonId());
+        }
+        editedPerson.attachTo(enrollment);
+        modificationCount++;
+        changeLog.recordPerson(existing.getUserId(), modificationCount);
+        changeLog.recordPerson(editedPerson.getUserId(), modificationCount);
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, unassigning it from all of its lessons.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person existing = persons.getById(key.getUserId()).orElse(null);
         persons.remove(key);
+        existing.detach();
+        enrollment.removeStudent(existing.getUserId());
+        modificationCount++;
+        changeLog.recordPerson(existing.getUserId(), modificationCount);
     }
 
 
+    /**
+     * Tells listeners of the person list, in a single change, that the persons with the given ids changed in place.
+     */
+    public void markPersonsUpdated(Collection<UserId> userIds) {
+        requireNonNull(userIds);
+        if (userIds.isEmpty()) {
+            return;
+        }
+        persons.markUpdated(userIds);
+        modificationCount++;
+        for (UserId userId : userIds) {
+            changeLog.recordPerson(userId, modificationCount);
+        }
+    }
+
     //// lesson-level operations
 
 
@@ -160,30 +321,215 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a lesson to the address book.
+     * Returns the person in the address book with the given {@code userId}, if any.
+     */
+    @Override
+    public Optional<Person> getById(UserId userId) {
+        requireNonNull(userId);
+        return persons.getById(userId);
+    }
+
+    /**
+     * Returns the lesson in the address book with the given {@code lessonId}, if any.
+     */
+    @Override
+    public Optional<Lesson> getById(LessonId lessonId) {
+        requireNonNull(lessonId);
+        return lessons.getById(lessonId);
+    }
+
+    /**
+     * Returns the lessons in the address book that fall on {@code day}, in list order.
+     */
+    public List<Lesson> getLessonsOn(Day day) {
+        requireNonNull(day);
+        return lessons.getLessonsOn(day);
+    }
+
+    /**
+     * Returns the lessons in the address book on {@code day} that overlap the window from {@code from} (inclusive)
+     * to {@code to} (exclusive), ordered by start time.
+     */
+    public List<Lesson> getLessonsOverlapping(Day day, Time from, Time to) {
+        return lessons.getLessonsOverlapping(day, from, to);
+    }
+
+    /**
+     * Returns the lessons that the student with the same id as {@code student} is assigned to, in list order.
+     * Only the student's lessons are looked at, not the rest of the address book.
+     */
+    public List<Lesson> getLessonsOf(Person student) {
+        requireNonNull(student);
+        return lessons.getLessonsWithIds(enrollment.getLessonIds(student.getUserId()));
+    }
+
+    /**
+     * Returns the position in the lesson list of the lesson with the same id as {@code lesson}, or -1 if there is
+     * none.
+     */
+    public int indexOf(Lesson lesson) {
+        return lessons.indexOf(lesson);
+    }
+
+    /**
+     * Adds a lesson to the address book, together with the students assigned to it.
      * The lesson must not already exist in the address book.
      */
     public void addLesson(Lesson lesson) {
+        lesson = ownInstanceOf(lesson);
         lessons.add(lesson);
+        lesson.attachTo(enrollment);
+        enrollment.fileLesson(lesson);
+        modificationCount++;
+        recordChangedLesson(lesson.getLessonId(), lesson.getStudents());
     }
 
     /**
-     * Removes a lesson from the address book.
+     * Removes a lesson from the address book, unassigning all of its students.
      * The lesson must exist in the address book.
      */
     public void removeLesson(Lesson lesson) {
+        Lesson existing = lessons.getById(lesson.getLessonId()).orElse(null);
         lessons.remove(lesson);
+        existing.detach();
+        enrollment.removeLesson(existing.getLessonId());
+        modificationCount++;
+        // detached, the lesson keeps the students it had
+        recordChangedLesson(existing.getLessonId(), existing.getStudents());
     }
 
     /**
      * Replaces the given lesson {@code target} in the list with {@code editedLesson}.
      * {@code target} must exist in the address book.
      * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the address book.
+     * {@code editedLesson} is assigned exactly the students it has, in place of the students of {@code target}.
      */
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireNonNull(editedLesson);
+        editedLesson = ownInstanceOf(editedLesson);
 
+        Lesson existing = lessons.getById(target.getLessonId()).orElse(null);
+        // A copy, as the students of an attached lesson are a view of the enrollment about to change
+        List<Person> editedStudents = new ArrayList<>(editedLesson.getStudents());
         lessons.setLesson(target, editedLesson);
+        existing.detach();
+        enrollment.removeLesson(existing.getLessonId());
+        for (Person student : editedStudents) {
+            enrollment.assign(student.getUserId(), editedLesson.getLessonId());
+        }
+        editedLesson.attachTo(enrollment);
+        modificationCount++;
+        recordChangedLesson(existing.getLessonId(), existing.getStudents());
+        recordChangedLesson(editedLesson.getLessonId(), editedLesson.getStudents());
+    }
+
+    /**
+     * Tells listeners of the lesson list, in a single change, that the lessons with the given ids changed in place.
+     */
+    public void markLessonsUpdated(Collection<LessonId> lessonIds) {
+        requireNonNull(lessonIds);
+        if (lessonIds.isEmpty()) {
+            return;
+        }
+        lessons.markUpdated(lessonIds);
+        modificationCount++;
+        for (LessonId lessonId : lessonIds) {
+            changeLog.recordLesson(lessonId, modificationCount);
+        }
+    }
+
+    //// assignment operations
+
+    /**
+     * Assigns the student with the same id as {@code student} to the lesson with the same id as {@code lesson}, and
+     * vice versa.
+     *
+     * @throws AssertionError if the student or lesson does not exist in the address book
+     */
+    public void assign(Person student, Lesson lesson) {
+        Person actualStudent = getById(student.getUserId()).orElse(null);
+        Lesson actualLesson = getById(lesson.getLessonId()).orElse(null);
+        if (actualStudent == null || actualLesson == null) {
+            throw new AssertionError("Person or Lesson does not exist in the address book");
+        }
+
+        enrollment.assign(actualStudent.getUserId(), actualLesson.getLessonId());
+        modificationCount++;
+        changeLog.recordPerson(actualStudent.getUserId(), modificationCount);
+    }
+
+    /**
+     * Unassigns the student with the same id as {@code student} from the lesson with the same id as {@code lesson},
+     * and vice versa.
+     *
+     * @throws AssertionError if the student or lesson does not exist in the address book
+     */
+    public void unassign(Person student, Lesson lesson) {
+        Person actualStudent = getById(student.getUserId()).orElse(null);
+        Lesson actualLesson = getById(lesson.getLessonId()).orElse(null);
+        if (actualStudent == null || actualLesson == null) {
+            throw new AssertionError("Person or Lesson does not exist in the address book");
+        }
+
+        enrollment.unassign(actualStudent.getUserId(), actualLesson.getLessonId());
+        modificationCount++;
+        changeLog.recordPerson(actualStudent.getUserId(), modificationCount);
+    }
+
+    private void recordChangedPersons(List<Person> changedPersons) {
+        for (Person person : changedPersons) {
+            changeLog.recordPerson(person.getUserId(), modificationCount);
+        }
+    }
+
+    /**
+     * Returns {@code person}, or a copy of it with the same lessons if it is in another address book, so that it is
+     * not taken out of that address book by being added to this one.
+     */
+    private Person ownInstanceOf(Person person) {
+        if (!person.isAttached() || persons.getById(person.getUserId()).orElse(null) == person) {
+            return person;
+        }
+        return new Person(person.getUserId(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getNote(), new HashSet<>(person.getLessons()), person.getTags());
+    }
+
+    /**
+     * Returns {@code lesson}, or a copy of it with the same students if it is in another address book, so that it is
+     * not taken out of that address book by being added to this one.
+     */
+    private Lesson ownInstanceOf(Lesson lesson) {
+        if (!lesson.isAttached() || lessons.getById(lesson.getLessonId()).orElse(null) == lesson) {
+            return lesson;
+        }
+        return new Lesson(lesson.getLessonId(), lesson.getDay(), lesson.getStartTime(), lesson.getEndTime(),
+                lesson.getVenue(), lesson.getNote(), lesson.getStudents());
+    }
+
+    private List<Person> ownInstancesOfPersons(List<Person> persons) {
+        List<Person> ownInstances = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            ownInstances.add(ownInstanceOf(person));
+        }
+        return ownInstances;
+    }
+
+    private List<Lesson> ownInstancesOfLessons(List<Lesson> lessons) {
+        List<Lesson> ownInstances = new ArrayList<>(lessons.size());
+        for (Lesson lesson : lessons) {
+            ownInstances.add(ownInstanceOf(lesson));
+        }
+        return ownInstances;
+    }
+
+    /**
+     * Records that the lesson with {@code lessonId} changed, and with it the lessons of {@code students}.
+     */
+    private void recordChangedLesson(LessonId lessonId, Set<Person> students) {
+        changeLog.recordLesson(lessonId, modificationCount);
+        for (Person student : students) {
+            changeLog.recordPerson(student.getUserId(), modificationCount);
+        }
     }
 
     //// util methods
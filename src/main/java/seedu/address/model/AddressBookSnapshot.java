@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
+
+/**
+ * A copy of the persons and lessons of an address book, which does not change when the address book it was taken
+ * from changes.
+ * Persons and lessons are copied together with their sets of assigned lessons and students, since assigning and
+ * unassigning change those sets in place. The copies still refer to the original persons and lessons through those
+ * sets, which is safe as long as only their ids are read.
+ * The change log of the address book, if it keeps one, is shared rather than copied, so that taking a snapshot does
+ * not cost time in the length of the history.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Lesson> lessons;
+    private final Map<UserId, Person> personsById;
+    private final Map<LessonId, Lesson> lessonsById;
+    private final int initialMaxUserId;
+    private final int initialMaxLessonId;
+    private final long modificationCount;
+    private final ChangeLog changeLog;
+
+    private AddressBookSnapshot(List<Person> persons, List<Lesson> lessons, int initialMaxUserId,
+            int initialMaxLessonId, long modificationCount, ChangeLog changeLog) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.lessons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(lessons));
+        this.initialMaxUserId = initialMaxUserId;
+        this.initialMaxLessonId = initialMaxLessonId;
+        this.modificationCount = modificationCount;
+        this.changeLog = changeLog;
+        personsById = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            personsById.put(person.getUserId(), person);
+        }
+        lessonsById = new HashMap<>(lessons.size() * 2);
+        for (Lesson lesson : lessons) {
+            lessonsById.put(lesson.getLessonId(), lesson);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            persons.add(new Person(person.getUserId(), person.getName(), person.getPhone(), person.getEmail(),
+                    person.getNote(), person.getLessons(), person.getTags()));
+        }
+        List<Lesson> lessons = new ArrayList<>(addressBook.getLessonList().size());
+        for (Lesson lesson : addressBook.getLessonList()) {
+            lessons.add(new Lesson(lesson.getLessonId(), lesson.getDay(), lesson.getStartTime(), lesson.getEndTime(),
+                    lesson.getVenue(), lesson.getNote(), lesson.getStudents()));
+        }
+        return new AddressBookSnapshot(persons, lessons, addressBook.getInitialMaxUserId(),
+                addressBook.getInitialMaxLessonId(), addressBook.getModificationCount(),
+                addressBook.getChangeLog().orElse(null));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Lesson> getLessonList() {
+        return lessons;
+    }
+
+    @Override
+    public int getInitialMaxUserId() {
+        return initialMaxUserId;
+    }
+
+    @Override
+    public int getInitialMaxLessonId() {
+        return initialMaxLessonId;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public Optional<ChangeLog> getChangeLog() {
+        return Optional.ofNullable(changeLog);
+    }
+
+    @Override
+    public Optional<Person> getById(UserId userId) {
+        return Optional.ofNullable(personsById.get(userId));
+    }
+
+    @Override
+    public Optional<Lesson> getById(LessonId lessonId) {
+        return Optional.ofNullable(lessonsById.get(lessonId));
+    }
+}
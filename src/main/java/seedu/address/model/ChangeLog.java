@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.UserId;
+
+/**
+ * The ids of the persons and lessons that changed in an address book, each with the modification count of the
+ * address book after it last changed, so that whoever has seen the address book at some modification count can
+ * find out what changed since then without comparing every person and lesson.
+ * A person counts as changed when it is added, edited or removed, or when the lessons it is assigned to change.
+ * A lesson counts as changed when it is added, edited or removed.
+ * Changes are appended in the order they are made, as modification counts only grow, so recording one takes amortised
+ * O(1) time and finding the ids that changed after a modification count takes O(log n + k) time, where n is the
+ * number of changes kept and k the number made since. The older changes of ids that changed again are dropped once
+ * the log fills up, so n stays within twice the number of ids ever recorded.
+ * Snapshots of the address book share its log rather than copy it, so the log may be read by a background writer
+ * while the address book records changes. A snapshot can therefore be told about ids that changed after it was
+ * taken, which is harmless to readers that look the ids up in the snapshot itself.
+ */
+public class ChangeLog {
+
+    private final IdLog<UserId> persons = new IdLog<>();
+    private final IdLog<LessonId> lessons = new IdLog<>();
+
+    ChangeLog() {}
+
+    /**
+     * Returns true if this log and {@code other} are the log of the same address book, which its snapshots share.
+     * Modification counts can only be compared between such logs.
+     */
+    public boolean hasSameOriginAs(ChangeLog other) {
+        return other == this;
+    }
+
+    synchronized void recordPerson(UserId userId, long modificationCount) {
+        persons.record(userId, modificationCount);
+    }
+
+    synchronized void recordLesson(LessonId lessonId, long modificationCount) {
+        lessons.record(lessonId, modificationCount);
+    }
+
+    /**
+     * Returns the ids of the persons that changed after the address book reached {@code modificationCount}.
+     */
+    public synchronized Set<UserId> getPersonsChangedAfter(long modificationCount) {
+        return persons.getChangedAfter(modificationCount);
+    }
+
+    /**
+     * Returns the ids of the lessons that changed after the address book reached {@code modificationCount}.
+     */
+    public synchronized Set<LessonId> getLessonsChangedAfter(long modificationCount) {
+        return lessons.getChangedAfter(modificationCount);
+    }
+
+    /**
+     * The changes to ids of one kind, in the order they were made.
+     */
+    private static class IdLog<K> {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] counts = new long[INITIAL_CAPACITY];
+        private Object[] ids = new Object[INITIAL_CAPACITY];
+        private int size = 0;
+
+        void record(K id, long modificationCount) {
+            assert size == 0 || counts[size - 1] <= modificationCount;
+            if (size == counts.length) {
+                dropOlderChanges();
+                // grows only once most of the changes kept are the latest of their ids
+                if (size > counts.length / 2) {
+                    counts = Arrays.copyOf(counts, counts.length * 2);
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                }
+            }
+            counts[size] = modificationCount;
+            ids[size] = id;
+            size++;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<K> getChangedAfter(long modificationCount) {
+            Set<K> changed = new HashSet<>();
+            for (int i = indexAfter(modificationCount); i < size; i++) {
+                changed.add((K) ids[i]);
+            }
+            return changed;
+        }
+
+        /**
+         * Returns the index of the first change made after {@code modificationCount}.
+         */
+        private int indexAfter(long modificationCount) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (counts[middle] <= modificationCount) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Keeps only the latest change of each id, in order.
+         */
+        private void dropOlderChanges() {
+            Set<Object> seen = new HashSet<>();
+            int kept = size;
+            for (int i = size - 1; i >= 0; i--) {
+                if (seen.add(ids[i])) {
+                    kept--;
+                    counts[kept] = counts[i];
+                    ids[kept] = ids[i];
+                }
+            }
+            int keptCount = size - kept;
+            System.arraycopy(counts, kept, counts, 0, keptCount);
+            System.arraycopy(ids, kept, ids, 0, keptCount);
+            Arrays.fill(ids, keptCount, size, null);
+            size = keptCount;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.lesson.Timetable;
+import seedu.address.model.lesson.UniqueLessonList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.UserId;
+import seedu.address.model.util.IntSet;
+
+/**
+ * The students of an {@code AddressBook} and the lessons they are assigned to, kept as ids in both directions.
+ *
+ * This is the only record of who is assigned to what. Persons and lessons that belong to the address book look up
+ * their lessons and students here, so an assignment is made or undone in one place and the two sides cannot
+ * disagree. Ids whose person or lesson is not in the address book are kept, but left out of the lessons and
+ * students looked up.
+ *
+ * Each student also has a {@link Timetable} of the assigned lessons that are in the address book, so that clashes can
+ * be found without looking at all of the student's lessons. A lesson is filed in the timetables under the instance
+ * that was in the address book when it was filed, so that it can be found again after that instance is replaced.
+ */
+public class Enrollment {
+
+    private final UniquePersonList persons;
+    private final UniqueLessonList lessons;
+    private final Map<Integer, IntSet> lessonIdsOfStudents = new HashMap<>();
+    private final Map<Integer, IntSet> studentIdsOfLessons = new HashMap<>();
+    private final Map<Integer, Timetable> timetables = new HashMap<>();
+    private final Map<Integer, Lesson> filedLessons = new HashMap<>();
+
+    /**
+     * Creates an empty enrollment whose ids are looked up in {@code persons} and {@code lessons}.
+     */
+    Enrollment(UniquePersonList persons, UniqueLessonList lessons) {
+        this.persons = persons;
+        this.lessons = lessons;
+    }
+
+    /**
+     * Returns the lessons in the address book that the student with {@code studentId} is assigned to.
+     * The returned set is an unmodifiable view, which changes when assignments change.
+     */
+    public Set<Lesson> getLessons(UserId studentId) {
+        requireNonNull(studentId);
+        return new AssignedSet<>(lessonIdsOfStudents, studentId.value,
+            id -> lessons.getById(new LessonId(id)),
+            lesson -> lesson instanceof Lesson && hasLesson(studentId, (Lesson) lesson));
+    }
+
+    /**
+     * Returns the students in the address book that are assigned to the lesson with {@code lessonId}.
+     * The returned set is an unmodifiable view, which changes when assignments change.
+     */
+    public Set<Person> getStudents(LessonId lessonId) {
+        requireNonNull(lessonId);
+        return new AssignedSet<>(studentIdsOfLessons, lessonId.value,
+            id -> persons.getById(new UserId(id)),
+            student -> student instanceof Person && hasStudent(lessonId, (Person) student));
+    }
+
+    /**
+     * Returns the ids of the lessons the student with {@code studentId} is assigned to, in ascending order.
+     */
+    public int[] getLessonIds(UserId studentId) {
+        requireNonNull(studentId);
+        IntSet lessonIds = lessonIdsOfStudents.get(studentId.value);
+        return lessonIds == null ? new int[0] : lessonIds.toArray();
+    }
+
+    /**
+     * Returns the ids of the students assigned to the lesson with {@code lessonId}, in ascending order.
+     */
+    public int[] getStudentIds(LessonId lessonId) {
+        requireNonNull(lessonId);
+        IntSet studentIds = studentIdsOfLessons.get(lessonId.value);
+        return studentIds == null ? new int[0] : studentIds.toArray();
+    }
+
+    /**
+     * Returns true if the student with {@code studentId} is assigned to a lesson in the address book that equals
+     * {@code lesson}.
+     */
+    public boolean hasLesson(UserId studentId, Lesson lesson) {
+        requireNonNull(lesson);
+        return isAssigned(studentId, lesson.getLessonId())
+                && lessons.getById(lesson.getLessonId()).map(lesson::equals).orElse(false);
+    }
+
+    /**
+     * Returns true if a student in the address book that equals {@code student} is assigned to the lesson with
+     * {@code lessonId}.
+     */
+    public boolean hasStudent(LessonId lessonId, Person student) {
+        requireNonNull(student);
+        return isAssigned(student.getUserId(), lessonId)
+                && persons.getById(student.getUserId()).map(student::equals).orElse(false);
+    }
+
+    /**
+     * Returns true if the student with {@code studentId} is assigned to the lesson with {@code lessonId}.
+     */
+    public boolean isAssigned(UserId studentId, LessonId lessonId) {
+        requireNonNull(studentId);
+        requireNonNull(lessonId);
+        IntSet lessonIds = lessonIdsOfStudents.get(studentId.value);
+        return lessonIds != null && lessonIds.contains(lessonId.value);
+    }
+
+    /**
+     * Returns a lesson in the address book that the student with {@code studentId} is assigned to, other than
+     * {@code lesson} itself, that overlaps {@code lesson}, if any.
+     */
+    public Optional<Lesson> getClashingLesson(UserId studentId, Lesson lesson) {
+        requireNonNull(studentId);
+        requireNonNull(lesson);
+        Timetable timetable = timetables.get(studentId.value);
+        return timetable == null ? Optional.empty() : timetable.getClashingLesson(lesson);
+    }
+
+    /**
+     * Returns true if any two lessons in the address book that the student with {@code studentId} is assigned to
+     * overlap.
+     */
+    public boolean hasClashingLessons(UserId studentId) {
+        requireNonNull(studentId);
+        Timetable timetable = timetables.get(studentId.value);
+        return timetable != null && timetable.hasClashingLessons();
+    }
+
+    /**
+     * Assigns the student with {@code studentId} to the lesson with {@code lessonId}, if not already assigned.
+     */
+    public void assign(UserId studentId, LessonId lessonId) {
+        requireNonNull(studentId);
+        requireNonNull(lessonId);
+        lessonIdsOfStudents.computeIfAbsent(studentId.value, unused -> new IntSet()).add(lessonId.value);
+        studentIdsOfLessons.computeIfAbsent(lessonId.value, unused -> new IntSet()).add(studentId.value);
+        file(studentId.value, lessonId.value);
+    }
+
+    /**
+     * Unassigns the student with {@code studentId} from the lesson with {@code lessonId}, if assigned.
+     */
+    public void unassign(UserId studentId, LessonId lessonId) {
+        requireNonNull(studentId);
+        requireNonNull(lessonId);
+        unfile(studentId.value, lessonId.value);
+        remove(lessonIdsOfStudents, studentId.value, lessonId.value);
+        remove(studentIdsOfLessons, lessonId.value, studentId.value);
+        forgetIfUnassigned(lessonId.value);
+    }
+
+    /**
+     * Files the lesson with the same id as {@code lesson}, which has just been added to the address book, in the
+     * timetables of the students already assigned to it.
+     */
+    void fileLesson(Lesson lesson) {
+        IntSet studentIds = studentIdsOfLessons.get(lesson.getLessonId().value);
+        if (studentIds == null) {
+            return;
+        }
+        for (int i = 0; i < studentIds.size(); i++) {
+            file(studentIds.get(i), lesson.getLessonId().value);
+        }
+    }
+
+    /**
+     * Unassigns the student with {@code studentId} from all of its lessons.
+     */
+    void removeStudent(UserId studentId) {
+        timetables.remove(studentId.value);
+        IntSet lessonIds = lessonIdsOfStudents.remove(studentId.value);
+        if (lessonIds == null) {
+            return;
+        }
+        for (int i = 0; i < lessonIds.size(); i++) {
+            remove(studentIdsOfLessons, lessonIds.get(i), studentId.value);
+            forgetIfUnassigned(lessonIds.get(i));
+        }
+    }
+
+    /**
+     * Unassigns all the students of the lesson with {@code lessonId}.
+     */
+    void removeLesson(LessonId lessonId) {
+        IntSet studentIds = studentIdsOfLessons.remove(lessonId.value);
+        if (studentIds == null) {
+            return;
+        }
+        for (int i = 0; i < studentIds.size(); i++) {
+            unfile(studentIds.get(i), lessonId.value);
+            remove(lessonIdsOfStudents, studentIds.get(i), lessonId.value);
+        }
+        filedLessons.remove(lessonId.value);
+    }
+
+    /**
+     * Puts the lesson with {@code lessonId} in the timetable of the student with {@code studentId}, if the lesson is
+     * in the address book.
+     */
+    private void file(int studentId, int lessonId) {
+        Lesson lesson = filedLessons.get(lessonId);
+        if (lesson == null) {
+            lesson = lessons.getById(new LessonId(lessonId)).orElse(null);
+            if (lesson == null) {
+                return;
+            }
+            filedLessons.put(lessonId, lesson);
+        }
+        timetables.computeIfAbsent(studentId, unused -> new Timetable()).add(lesson);
+    }
+
+    /**
+     * Takes the lesson with {@code lessonId} out of the timetable of the student with {@code studentId}.
+     */
+    private void unfile(int studentId, int lessonId) {
+        Lesson lesson = filedLessons.get(lessonId);
+        Timetable timetable = timetables.get(studentId);
+        if (lesson == null || timetable == null) {
+            return;
+        }
+        timetable.remove(lesson);
+        if (timetable.isEmpty()) {
+            timetables.remove(studentId);
+        }
+    }
+
+    /**
+     * Stops tracking the instance the lesson with {@code lessonId} is filed under once no student is assigned to it.
+     */
+    private void forgetIfUnassigned(int lessonId) {
+        if (!studentIdsOfLessons.containsKey(lessonId)) {
+            filedLessons.remove(lessonId);
+        }
+    }
+
+    /**
+     * Removes {@code value} from the set of {@code key} in {@code sets}, dropping the set once it is empty.
+     */
+    private static void remove(Map<Integer, IntSet> sets, int key, int value) {
+        IntSet set = sets.get(key);
+        if (set != null && set.remove(value) && set.isEmpty()) {
+            sets.remove(key);
+        }
+    }
+
+    /**
+     * An unmodifiable view of the persons or lessons whose ids are in the set of {@code key} in {@code ids}, leaving
+     * out the ids that are not in the address book. The set of {@code key} is looked up anew on each use, as it is
+     * dropped once empty and created again on the next assignment.
+     */
+    private static class AssignedSet<T> extends AbstractSet<T> {
+        private final Map<Integer, IntSet> ids;
+        private final int key;
+        private final IntFunction<Optional<T>> lookup;
+        private final Predicate<Object> isAssigned;
+
+        AssignedSet(Map<Integer, IntSet> ids, int key, IntFunction<Optional<T>> lookup, Predicate<Object> isAssigned) {
+            this.ids = ids;
+            this.key = key;
+            this.lookup = lookup;
+            this.isAssigned = isAssigned;
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            return isAssigned.test(element);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            IntSet set = ids.get(key);
+            PrimitiveIterator.OfInt idIterator = set == null ? new IntSet().iterator() : set.iterator();
+            return new Iterator<>() {
+                private T next = advance();
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public T next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    T current = next;
+                    next = advance();
+                    return current;
+                }
+
+                private T advance() {
+                    while (idIterator.hasNext()) {
+                        Optional<T> element = lookup.apply(idIterator.nextInt());
+                        if (element.isPresent()) {
+                            return element.get();
+                        }
+                    }
+                    return null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.UpdatableObservableList;
+
+/**
+ * A filtered view of a list in an {@code AddressBook}.
+ * When the predicate is an {@code IndexedPredicate}, the view is fed from the candidates it returns, in their order,
+ * instead of testing every element of the source list. Other predicates fall back to a scan of the source list.
+ *
+ * The view is derived in full only when the predicate changes. After that, each change to the source list is carried
+ * over element by element: added elements are tested and inserted, removed elements are removed, and replaced or
+ * updated elements are tested again. The view therefore changes only where the source changed, and listeners such as
+ * a list view keep their selection and scroll position. The edits for one change to the source list are reported as
+ * one change to the view. To map source changes onto the view, the position in the source list of every element
+ * shown is tracked alongside it.
+ */
+public class IndexedFilteredList<T> {
+
+    private final ObservableList<T> source;
+    private final AddressBook addressBook;
+    private final ToIntFunction<T> positionInSource;
+    private final UpdatableObservableList<T> shown = new UpdatableObservableList<>();
+    private final ObservableList<T> unmodifiableShown = FXCollections.unmodifiableObservableList(shown);
+    private Predicate<T> predicate = unused -> true;
+    // The order of the elements shown, or null if they are shown in source order
+    private Comparator<T> order;
+    // The position in the source list of each element shown, in the same order as they are shown
+    private int[] sourceIndices = new int[0];
+
+    /**
+     * Creates a view of {@code source} that shows every element. {@code source} must be a list of
+     * {@code addressBook}, so that the candidates of an {@code IndexedPredicate} are drawn from the same data.
+     * {@code positionInSource} returns the position in {@code source} of an element of {@code source}.
+     */
+    public IndexedFilteredList(ObservableList<T> source, AddressBook addressBook, ToIntFunction<T> positionInSource) {
+        this.source = requireNonNull(source);
+        this.addressBook = requireNonNull(addressBook);
+        this.positionInSource = requireNonNull(positionInSource);
+        source.addListener((ListChangeListener<T>) this::onSourceChanged);
+        refresh();
+    }
+
+    /**
+     * Sets the predicate of this view and derives the elements shown again.
+     */
+    public void setPredicate(Predicate<T> predicate) {
+        this.predicate = requireNonNull(predicate);
+        refresh();
+    }
+
+    /**
+     * Returns the elements shown as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableShown;
+    }
+
+    private void refresh() {
+        List<T> matches = new ArrayList<>();
+        if (predicate instanceof IndexedPredicate) {
+            IndexedPredicate<T> indexedPredicate = (IndexedPredicate<T>) predicate;
+            for (T candidate : indexedPredicate.getCandidates(addressBook)) {
+                if (predicate.test(candidate)) {
+                    matches.add(candidate);
+                }
+            }
+            order = indexedPredicate.getOrder().orElse(null);
+            if (order == null) {
+                // in case the candidates were not in source order
+                matches.sort(Comparator.comparingInt(positionInSource));
+            }
+        } else {
+            order = null;
+            for (T element : source) {
+                if (predicate.test(element)) {
+                    matches.add(element);
+                }
+            }
+        }
+
+        sourceIndices = matches.stream().mapToInt(positionInSource).toArray();
+        shown.setAll(matches);
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+        shown.changeTogether(() -> carryOver(change));
+    }
+
+    private void carryOver(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                refresh();
+                return;
+            }
+            int from = change.getFrom();
+            if (change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    retest(i);
+                }
+            } else if (change.getAddedSize() == change.getRemovedSize()) {
+                // replaced one for one, so the positions of the other elements do not change
+                for (int i = from; i < change.getTo(); i++) {
+                    retest(i);
+                }
+            } else {
+                removeFromView(from, change.getRemovedSize());
+                addToView(from, change.getAddedSize());
+            }
+        }
+    }
+
+    /**
+     * Shows or hides the element at {@code sourceIndex}, which replaced the element there or changed in place,
+     * according to whether it satisfies the predicate now.
+     */
+    private void retest(int sourceIndex) {
+        T element = source.get(sourceIndex);
+        int position = findShown(sourceIndex);
+        boolean matches = predicate.test(element);
+        if (position >= 0 && matches && order == null) {
+            shown.set(position, element);
+        } else if (position >= 0) {
+            removeShown(position);
+            if (matches) {
+                insertShown(sourceIndex, element);
+            }
+        } else if (matches) {
+            insertShown(sourceIndex, element);
+        }
+    }
+
+    /**
+     * Carries over the removal of {@code count} elements at {@code from} in the source list.
+     */
+    private void removeFromView(int from, int count) {
+        if (count == 0) {
+            return;
+        }
+        for (int position = shown.size() - 1; position >= 0; position--) {
+            if (sourceIndices[position] >= from + count) {
+                sourceIndices[position] -= count;
+            } else if (sourceIndices[position] >= from) {
+                removeShown(position);
+            } else if (order == null) {
+                // shown in source order, so no earlier element is affected
+                break;
+            }
+        }
+    }
+
+    /**
+     * Carries over the addition of {@code count} elements at {@code from} in the source list.
+     */
+    private void addToView(int from, int count) {
+        if (count == 0) {
+            return;
+        }
+        for (int position = shown.size() - 1; position >= 0; position--) {
+            if (sourceIndices[position] >= from) {
+                sourceIndices[position] += count;
+            } else if (order == null) {
+                break;
+            }
+        }
+        for (int i = from; i < from + count; i++) {
+            T element = source.get(i);
+            if (predicate.test(element)) {
+                insertShown(i, element);
+            }
+        }
+    }
+
+    /**
+     * Returns the position in the view of the element at {@code sourceIndex}, or -1 if it is not shown.
+     */
+    private int findShown(int sourceIndex) {
+        if (order == null) {
+            int position = Arrays.binarySearch(sourceIndices, 0, shown.size(), sourceIndex);
+            return Math.max(position, -1);
+        }
+        for (int position = 0; position < shown.size(); position++) {
+            if (sourceIndices[position] == sourceIndex) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Shows {@code element}, which is at {@code sourceIndex} in the source list, in its place in the view.
+     */
+    private void insertShown(int sourceIndex, T element) {
+        int size = shown.size();
+        int position = order == null
+                ? Arrays.binarySearch(sourceIndices, 0, size, sourceIndex)
+                : Collections.binarySearch(shown, element, order);
+        position = position >= 0 ? position + 1 : -position - 1;
+
+        if (size == sourceIndices.length) {
+            sourceIndices = Arrays.copyOf(sourceIndices, Math.max(4, size * 2));
+        }
+        System.arraycopy(sourceIndices, position, sourceIndices, position + 1, size - position);
+        sourceIndices[position] = sourceIndex;
+        shown.add(position, element);
+    }
+
+    private void removeShown(int position) {
+        System.arraycopy(sourceIndices, position + 1, sourceIndices, position, shown.size() - position - 1);
+        shown.remove(position);
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can narrow down the elements it may match by using the indices kept by an
+ * {@code AddressBook}, so that filtering does not need to test every element in the address book.
+ */
+public interface IndexedPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns the elements of {@code addressBook} that may satisfy this predicate, in the order they are to be shown.
+     * Every element that satisfies this predicate must be included; elements that do not are filtered out afterwards.
+     */
+    Collection<T> getCandidates(AddressBook addressBook);
+
+    /**
+     * Returns the order of the candidates, if they are not in the order of the address book list.
+     * Elements that come to satisfy this predicate after the list changes are put in their place in this order.
+     */
+    default Optional<Comparator<T>> getOrder() {
+        return Optional.empty();
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
 
 /**
  * The API of the Model component.
@@ -62,7 +65,7 @@ public interface Model {
     boolean hasPerson(Person person);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person, unassigning it from all of its lessons.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -101,7 +104,17 @@ public interface Model {
     boolean hasLesson(Lesson lesson);
 
     /**
-     * Deletes the given lesson
+     * Returns the person in the address book with the given {@code userId}, if any.
+     */
+    Optional<Person> getById(UserId userId);
+
+    /**
+     * Returns the lesson in the address book with the given {@code lessonId}, if any.
+     */
+    Optional<Lesson> getById(LessonId lessonId);
+
+    /**
+     * Deletes the given lesson, unassigning all of its students.
      * The lesson must exist in the address book.
      */
     void deleteLesson(Lesson lesson);
@@ -4,21 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonId;
-import seedu.address.model.lesson.exceptions.LessonNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UserId;
-import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,8 +26,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Lesson> filteredLessons;
+    private final IndexedFilteredList<Person> filteredPersons;
+    private final IndexedFilteredList<Lesson> filteredLessons;
     // Tracks which list is currently displayed (false = persons, true = lessons)
     private boolean lessonsDisplayed = false;
 
@@ -43,8 +41,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredLessons = new FilteredList<>(this.addressBook.getLessonList());
+        filteredPersons = new IndexedFilteredList<>(this.addressBook.getPersonList(), this.addressBook,
+                this.addressBook::indexOf);
+        filteredLessons = new IndexedFilteredList<>(this.addressBook.getLessonList(), this.addressBook,
+                this.addressBook::indexOf);
 
         // Important to set max IDs to ensure ID numbers are incremented correctly
         UserId.setMaxUserId(addressBook.getInitialMaxUserId());
@@ -122,19 +122,17 @@ public class ModelManager implements Model {
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        Set<Lesson> assignedLessons = target.getLessons();
-
-        for (Lesson lesson : assignedLessons) {
-            if (lesson.hasStudent(target)) {
-                try {
-                    lesson.replaceStudent(target, editedPerson);
-                    addressBook.setLesson(lesson, lesson);
-                } catch (IllegalValueException e) {
-                    throw new PersonNotFoundException();
-                }
-            }
+        Set<LessonId> updatedLessonIds = new HashSet<>();
+        for (Lesson lesson : target.getLessons()) {
+            updatedLessonIds.add(lesson.getLessonId());
         }
+        for (Lesson lesson : editedPerson.getLessons()) {
+            updatedLessonIds.add(lesson.getLessonId());
+        }
+
         addressBook.setPerson(target, editedPerson);
+        // One change for all the lessons, so that views of the lesson list refresh once
+        addressBook.markLessonsUpdated(updatedLessonIds);
     }
 
     @Override
@@ -149,6 +147,18 @@ public class ModelManager implements Model {
         return addressBook.hasLesson(lesson);
     }
 
+    @Override
+    public Optional<Person> getById(UserId userId) {
+        requireNonNull(userId);
+        return addressBook.getById(userId);
+    }
+
+    @Override
+    public Optional<Lesson> getById(LessonId lessonId) {
+        requireNonNull(lessonId);
+        return addressBook.getById(lessonId);
+    }
+
     @Override
     public void deleteLesson(Lesson lesson) {
         addressBook.removeLesson(lesson);
@@ -157,20 +167,17 @@ public class ModelManager implements Model {
     @Override
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
-        Set<Person> assignedStudents = target.getStudents();
-
-        for (Person student : assignedStudents) {
-            if (student.hasLesson(target)) {
-                try {
-                    student.replaceLesson(target, editedLesson);
-                    addressBook.setPerson(student, student);
-                } catch (IllegalValueException e) {
-                    throw new LessonNotFoundException();
-                }
-            }
+        Set<UserId> updatedUserIds = new HashSet<>();
+        for (Person student : target.getStudents()) {
+            updatedUserIds.add(student.getUserId());
+        }
+        for (Person student : editedLesson.getStudents()) {
+            updatedUserIds.add(student.getUserId());
         }
 
         addressBook.setLesson(target, editedLesson);
+        // One change for all the students, so that views of the person list refresh once
+        addressBook.markPersonsUpdated(updatedUserIds);
     }
 
     /**
@@ -182,25 +189,7 @@ public class ModelManager implements Model {
      * @throws AssertionError if the student or lesson does not exist in the address book
      */
     public void assign(Person student, Lesson lesson) {
-        if (!addressBook.hasPerson(student) || !addressBook.hasLesson(lesson)) {
-            throw new AssertionError("Person or Lesson does not exist in the address book");
-        }
-
-        // Get the actual objects from the address book to ensure we modify the correct instances
-        Person actualStudent = addressBook.getPersonList().stream()
-                .filter(p -> p.isSamePerson(student))
-                .findFirst()
-                .orElse(null);
-
-        Lesson actualLesson = addressBook.getLessonList().stream()
-                .filter(l -> l.isSameLesson(lesson))
-                .findFirst()
-                .orElse(null);
-
-        if (actualStudent != null && actualLesson != null) {
-            actualStudent.addLesson(actualLesson);
-            actualLesson.addStudent(actualStudent);
-        }
+        addressBook.assign(student, lesson);
     }
 
     /**
@@ -212,25 +201,7 @@ public class ModelManager implements Model {
      * @throws AssertionError if the student or lesson does not exist in the address book
      */
     public void unassign(Person student, Lesson lesson) {
-        if (!addressBook.hasPerson(student) || !addressBook.hasLesson(lesson)) {
-            throw new AssertionError("Person or Lesson does not exist in the address book");
-        }
-
-        // Get the actual objects from the address book to ensure we modify the correct instances
-        Person actualStudent = addressBook.getPersonList().stream()
-                .filter(p -> p.isSamePerson(student))
-                .findFirst()
-                .orElse(null);
-
-        Lesson actualLesson = addressBook.getLessonList().stream()
-                .filter(l -> l.isSameLesson(lesson))
-                .findFirst()
-                .orElse(null);
-
-        if (actualStudent != null && actualLesson != null) {
-            actualStudent.removeLesson(actualLesson);
-            actualLesson.removeStudent(actualStudent);
-        }
+        addressBook.unassign(student, lesson);
     }
 
     /**
@@ -250,7 +221,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.asUnmodifiableObservableList();
     }
 
     @Override
@@ -266,7 +237,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Lesson> getFilteredLessonList() {
-        return filteredLessons;
+        return filteredLessons.asUnmodifiableObservableList();
     }
 
     @Override
@@ -311,8 +282,8 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
-                && filteredLessons.equals(otherModelManager.filteredLessons);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList())
+                && getFilteredLessonList().equals(otherModelManager.getFilteredLessonList());
     }
 
 }
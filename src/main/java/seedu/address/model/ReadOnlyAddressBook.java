@@ -1,8 +1,12 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
 
 /**
  * Unmodifiable view of an address book
@@ -30,4 +34,31 @@ public interface ReadOnlyAddressBook {
      * Returns the current largest LessonId + 1 in the json data.
      */
     int getInitialMaxLessonId();
+
+    /**
+     * Returns the number of changes made to the address book so far.
+     * Two calls return the same value only if the address book did not change in between.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the log of the persons and lessons that changed in this address book, if it keeps one.
+     */
+    default Optional<ChangeLog> getChangeLog() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the person with the given {@code userId}, if any.
+     */
+    default Optional<Person> getById(UserId userId) {
+        return getPersonList().stream().filter(person -> person.getUserId().equals(userId)).findFirst();
+    }
+
+    /**
+     * Returns the lesson with the given {@code lessonId}, if any.
+     */
+    default Optional<Lesson> getById(LessonId lessonId) {
+        return getLessonList().stream().filter(lesson -> lesson.getLessonId().equals(lessonId)).findFirst();
+    }
 }
@@ -9,19 +9,13 @@ public enum Day {
     public static final String MESSAGE_CONSTRAINTS =
             "Day should be one of: Mon, Tue, Wed, Thu, Fri, Sat, Sun (case-insensitive)";
 
+    private static final Day[] DAYS = values();
+
     /**
      * Returns true if a given string is a valid day
      */
     public static boolean isValidDay(String test) {
-        if (test == null) {
-            return false;
-        }
-        try {
-            Day.valueOf(test.toUpperCase());
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return test != null && find(test) != null;
     }
 
     /**
@@ -29,6 +23,22 @@ public enum Day {
      * @throws IllegalArgumentException if the string is not a valid day
      */
     public static Day fromString(String day) {
-        return Day.valueOf(day.toUpperCase());
+        Day found = find(day);
+        if (found == null) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the day named {@code name} in any case, or null if there is none.
+     */
+    private static Day find(String name) {
+        for (Day day : DAYS) {
+            if (day.name().equalsIgnoreCase(name)) {
+                return day;
+            }
+        }
+        return null;
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.lesson;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -9,6 +10,7 @@ import java.util.Set;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Enrollment;
 import seedu.address.model.note.Note;
 import seedu.address.model.person.Person;
 
@@ -20,7 +22,7 @@ import seedu.address.model.person.Person;
 public class Lesson {
     public static final String MESSAGE_STUDENT_NOT_FOUND = "Cannot replace student as it is not found.";
     private static final Day PLACEHOLDER_DAY = Day.MON;
-    private static final Time PLACEHOLDER_TIME = new Time("0000");
+    private static final Time PLACEHOLDER_TIME = Time.of("0000");
     private static final Venue PLACEHOLDER_VENUE = new Venue("placeholder");
     private static final Note PLACEHOLDER_NOTE = new Note("placeholder");
 
@@ -31,7 +33,9 @@ public class Lesson {
     private final Venue venue;
     private final Note note;
 
+    // Only used while this lesson is not in an address book; after that, its students are kept in the enrollment
     private final Set<Person> students = new HashSet<>();
+    private Enrollment enrollment;
 
     /**
      * Initializes a Lesson object
@@ -81,31 +85,81 @@ public class Lesson {
                 && otherLesson.getLessonId().equals(getLessonId());
     }
 
+    /**
+     * Returns true if this lesson and {@code otherLesson} are on the same day and their times overlap.
+     * Lessons that only touch, where one ends exactly when the other starts, do not overlap.
+     */
+    public boolean overlaps(Lesson otherLesson) {
+        return day == otherLesson.day
+                && startTime.toMinuteOfDay() < otherLesson.endTime.toMinuteOfDay()
+                && otherLesson.startTime.toMinuteOfDay() < endTime.toMinuteOfDay();
+    }
+
     /**
      * Returns true if the input student is a student of this lesson
      */
     public boolean hasStudent(Person person) {
+        if (enrollment != null) {
+            return enrollment.hasStudent(lessonId, person);
+        }
         return students.contains(person);
     }
 
     /**
      * Adds a student to this lesson's set of students.
+     * Only for a lesson that is not in an address book, like {@link #replaceStudent}.
      *
      * @param student the student to add
      */
-    public void addStudent(Person student) {
+    void addStudent(Person student) {
+        assert enrollment == null : "students of a lesson in an address book are assigned through the address book";
         students.add(student);
     }
 
     /**
      * Removes a student from this lesson's set of students.
+     * Only for a lesson that is not in an address book, like {@link #replaceStudent}.
      *
      * @param student the student to remove
      */
-    public void removeStudent(Person student) {
+    void removeStudent(Person student) {
+        assert enrollment == null : "students of a lesson in an address book are assigned through the address book";
         students.remove(student);
     }
 
+    /**
+     * Returns true if this lesson is in an address book, which then keeps its students.
+     */
+    public boolean isAttached() {
+        return enrollment != null;
+    }
+
+    /**
+     * Makes {@code enrollment} the record of this lesson's students, carrying over the students it has so far.
+     * Only to be called by the address book that {@code enrollment} belongs to, when this lesson is added to it.
+     */
+    public void attachTo(Enrollment enrollment) {
+        requireNonNull(enrollment);
+        assert this.enrollment == null : "already in an address book";
+        for (Person student : getStudents()) {
+            enrollment.assign(student.getUserId(), lessonId);
+        }
+        students.clear();
+        this.enrollment = enrollment;
+    }
+
+    /**
+     * Keeps this lesson's current students with this lesson again, instead of in its enrollment.
+     * Only to be called by the address book this lesson belongs to, when this lesson is removed from it.
+     */
+    public void detach() {
+        if (enrollment == null) {
+            return;
+        }
+        students.addAll(enrollment.getStudents(lessonId));
+        enrollment = null;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -173,23 +227,28 @@ public class Lesson {
      * if modification is attempted.
      */
     public Set<Person> getStudents() {
+        if (enrollment != null) {
+            return enrollment.getStudents(lessonId);
+        }
         return Collections.unmodifiableSet(students);
     }
 
     /**
      * Replaces a student in the lesson with a new student.
+     * Only for a lesson that is not in an address book; the students of one that is are changed through
+     * {@code AddressBook#assign} and {@code AddressBook#unassign}, which record the change.
      *
      * @param studentToReplace the student to be replaced
      * @param replacedStudent the new student
      * @throws IllegalValueException if the student to replace is not found in the lesson
      */
-    public void replaceStudent(Person studentToReplace, Person replacedStudent) throws IllegalValueException {
-        if (!students.contains(studentToReplace)) {
+    void replaceStudent(Person studentToReplace, Person replacedStudent) throws IllegalValueException {
+        if (!hasStudent(studentToReplace)) {
             throw new IllegalValueException(MESSAGE_STUDENT_NOT_FOUND);
         }
 
-        students.remove(studentToReplace);
-        students.add(replacedStudent);
+        removeStudent(studentToReplace);
+        addStudent(replacedStudent);
     }
 
     public Note getNote() {
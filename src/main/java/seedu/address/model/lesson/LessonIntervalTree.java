@@ -0,0 +1,211 @@
+package seedu.address.model.lesson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * An interval tree over the start and end times of lessons, used to find the lessons that overlap a time window.
+ * It is a treap ordered by start time (ties are broken by {@code LessonId}) in which every node also records the
+ * latest end time in its subtree, so that a query can skip subtrees that end before the window starts.
+ * Insertion, removal and a query that returns k lessons take O(log n + k) expected time.
+ */
+class LessonIntervalTree {
+
+    private static final int OVERLAP_FOUND = Integer.MAX_VALUE;
+
+    private final Random priorities = new Random(0);
+    private Node root;
+
+    /**
+     * Adds {@code lesson} to the tree. The tree must not already contain a lesson with the same {@code LessonId}.
+     */
+    void add(Lesson lesson) {
+        root = insert(root, new Node(lesson, priorities.nextInt()));
+    }
+
+    /**
+     * Removes {@code lesson} from the tree, if it is present.
+     */
+    void remove(Lesson lesson) {
+        root = delete(root, lesson.getStartTime().toMinuteOfDay(), lesson.getLessonId().value);
+    }
+
+    /**
+     * Returns true if the tree contains a lesson with the same start time and {@code LessonId} as {@code lesson}.
+     */
+    boolean contains(Lesson lesson) {
+        int start = lesson.getStartTime().toMinuteOfDay();
+        int id = lesson.getLessonId().value;
+        Node node = root;
+        while (node != null) {
+            int comparison = compare(start, id, node);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns true if any two lessons in the tree overlap.
+     * The lessons are visited once in order of start time, keeping track of the latest end time seen so far.
+     */
+    boolean hasOverlaps() {
+        return findLatestEnd(root, -1) == OVERLAP_FOUND;
+    }
+
+    /**
+     * Visits the lessons in {@code node} in order of start time after lessons ending at {@code latestEnd}, and
+     * returns the latest end time after them, or {@code OVERLAP_FOUND} as soon as a lesson starts before the latest
+     * end time seen so far.
+     */
+    private static int findLatestEnd(Node node, int latestEnd) {
+        if (node == null) {
+            return latestEnd;
+        }
+        latestEnd = findLatestEnd(node.left, latestEnd);
+        if (latestEnd == OVERLAP_FOUND || node.start < latestEnd) {
+            return OVERLAP_FOUND;
+        }
+        return findLatestEnd(node.right, Math.max(latestEnd, node.end));
+    }
+
+    /**
+     * Returns the lessons that overlap the half-open window [{@code from}, {@code to}), given in minutes from
+     * midnight, ordered by start time.
+     */
+    List<Lesson> getOverlapping(int from, int to) {
+        List<Lesson> overlapping = new ArrayList<>();
+        collectOverlapping(root, from, to, overlapping);
+        return overlapping;
+    }
+
+    private static void collectOverlapping(Node node, int from, int to, List<Lesson> overlapping) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, overlapping);
+        if (node.start >= to) {
+            // every lesson in the right subtree starts even later
+            return;
+        }
+        if (node.end > from) {
+            overlapping.add(node.lesson);
+        }
+        collectOverlapping(node.right, from, to, overlapping);
+    }
+
+    private static Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (compare(node.start, node.id, subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private static Node delete(Node subtree, int start, int id) {
+        if (subtree == null) {
+            return null;
+        }
+        int comparison = compare(start, id, subtree);
+        if (comparison < 0) {
+            subtree.left = delete(subtree.left, start, id);
+        } else if (comparison > 0) {
+            subtree.right = delete(subtree.right, start, id);
+        } else {
+            subtree = merge(subtree.left, subtree.right);
+        }
+        if (subtree != null) {
+            subtree.update();
+        }
+        return subtree;
+    }
+
+    /**
+     * Merges two treaps where every node in {@code left} is ordered before every node in {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        return newRoot;
+    }
+
+    private static int compare(int start, int id, Node node) {
+        int comparison = Integer.compare(start, node.start);
+        return comparison != 0 ? comparison : Integer.compare(id, node.id);
+    }
+
+    private static class Node {
+        private final Lesson lesson;
+        private final int start;
+        private final int end;
+        private final int id;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int maxEnd;
+
+        Node(Lesson lesson, int priority) {
+            this.lesson = lesson;
+            this.start = lesson.getStartTime().toMinuteOfDay();
+            this.end = lesson.getEndTime().toMinuteOfDay();
+            this.id = lesson.getLessonId().value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
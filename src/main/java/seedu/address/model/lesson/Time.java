@@ -2,56 +2,97 @@ package seedu.address.model.lesson;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
- * Represents a Time instance
+ * Represents a Time instance, as the number of minutes from midnight.
+ * Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}; there is only one instance of each
+ * time, so a lesson's times take no more memory than two references.
  */
-public class Time {
+public final class Time {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Time should be in 24-hour format HHMM (e.g. 0930). Range: 0000 - 2359.";
 
-    private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+    private static final int INVALID_TIME = -1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final Time[] INSTANCES = new Time[MINUTES_PER_DAY];
+
+    static {
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            INSTANCES[minuteOfDay] = new Time((short) minuteOfDay);
+        }
+    }
 
-    public final String value;
-    private final LocalTime time;
+    private final short minuteOfDay;
+
+    private Time(short minuteOfDay) {
+        this.minuteOfDay = minuteOfDay;
+    }
 
     /**
-     * Constructs a {@code Time}
+     * Returns the {@code Time} of {@code time}.
      *
      * @param time A valid time string in HHMM format.
      */
-    public Time(String time) {
+    public static Time of(String time) {
         requireNonNull(time);
-        checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
-        this.time = LocalTime.parse(time, INPUT_FORMATTER);
-        this.value = time;
+        int minuteOfDay = parseMinuteOfDay(time);
+        checkArgument(minuteOfDay != INVALID_TIME, MESSAGE_CONSTRAINTS);
+        return INSTANCES[minuteOfDay];
+    }
+
+    /**
+     * Returns the {@code Time} of {@code time} without checking that it is valid.
+     * Only for times known to be valid, such as ones read back unchanged from a data file this app wrote.
+     */
+    public static Time fromTrusted(String time) {
+        int hour = (time.charAt(0) - '0') * 10 + (time.charAt(1) - '0');
+        int minute = (time.charAt(2) - '0') * 10 + (time.charAt(3) - '0');
+        return INSTANCES[hour * 60 + minute];
     }
 
     /**
      * Returns true if a given string is a valid time.
      */
     public static boolean isValidTime(String test) {
-        // Only allow "0000" to represent midnight
-        if (test.equals("2400")) {
-            return false;
-        }
+        return parseMinuteOfDay(test) != INVALID_TIME;
+    }
 
-        try {
-            LocalTime.parse(test, INPUT_FORMATTER);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+    /**
+     * Returns the number of minutes from midnight to the time {@code test} in HHMM format, or {@code INVALID_TIME}
+     * if it is not a valid time. Only "0000" represents midnight, so "2400" is not valid.
+     */
+    private static int parseMinuteOfDay(String test) {
+        if (test.length() != 4) {
+            return INVALID_TIME;
+        }
+        for (int i = 0; i < 4; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return INVALID_TIME;
+            }
+        }
+        int hour = (test.charAt(0) - '0') * 10 + (test.charAt(1) - '0');
+        int minute = (test.charAt(2) - '0') * 10 + (test.charAt(3) - '0');
+        if (hour > 23 || minute > 59) {
+            return INVALID_TIME;
         }
+        return hour * 60 + minute;
     }
 
+    /**
+     * Returns this Time in HHMM format.
+     */
     @Override
     public String toString() {
-        return value;
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        char[] digits = new char[4];
+        digits[0] = (char) ('0' + hour / 10);
+        digits[1] = (char) ('0' + hour % 10);
+        digits[2] = (char) ('0' + minute / 10);
+        digits[3] = (char) ('0' + minute % 10);
+        return new String(digits);
     }
 
     @Override
@@ -66,12 +107,19 @@ public class Time {
         }
 
         Time otherTime = (Time) other;
-        return time.equals(otherTime.time);
+        return minuteOfDay == otherTime.minuteOfDay;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return minuteOfDay;
+    }
+
+    /**
+     * Returns the number of minutes from midnight to this Time.
+     */
+    public int toMinuteOfDay() {
+        return minuteOfDay;
     }
 
     /**
@@ -79,6 +127,6 @@ public class Time {
      */
     public boolean isBeforeandEquals(Time other) {
         requireNonNull(other);
-        return time.isBefore(other.time) || time.equals(other.time);
+        return minuteOfDay <= other.minuteOfDay;
     }
 }
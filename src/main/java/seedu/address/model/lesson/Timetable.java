@@ -0,0 +1,76 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The lessons of one student, grouped by day, with an interval tree over each day's lesson times.
+ * Adding and removing a lesson, and finding a lesson that clashes with another one, take logarithmic time in the
+ * number of lessons on that day.
+ */
+public class Timetable {
+
+    private final Map<Day, LessonIntervalTree> dayToIntervals = new EnumMap<>(Day.class);
+
+    /**
+     * Adds {@code lesson} to this timetable, if a lesson with the same id and start time is not already in it.
+     */
+    public void add(Lesson lesson) {
+        requireNonNull(lesson);
+        LessonIntervalTree intervals = dayToIntervals.computeIfAbsent(lesson.getDay(),
+                unused -> new LessonIntervalTree());
+        if (!intervals.contains(lesson)) {
+            intervals.add(lesson);
+        }
+    }
+
+    /**
+     * Removes {@code lesson} from this timetable, if it is present.
+     * {@code lesson} must have the same day and start time as when it was added.
+     */
+    public void remove(Lesson lesson) {
+        requireNonNull(lesson);
+        LessonIntervalTree intervals = dayToIntervals.get(lesson.getDay());
+        if (intervals == null) {
+            return;
+        }
+        intervals.remove(lesson);
+        if (intervals.isEmpty()) {
+            dayToIntervals.remove(lesson.getDay());
+        }
+    }
+
+    public boolean isEmpty() {
+        return dayToIntervals.isEmpty();
+    }
+
+    /**
+     * Returns a lesson in this timetable, other than {@code lesson} itself, that overlaps {@code lesson}, if any.
+     */
+    public Optional<Lesson> getClashingLesson(Lesson lesson) {
+        requireNonNull(lesson);
+        LessonIntervalTree intervals = dayToIntervals.get(lesson.getDay());
+        if (intervals == null) {
+            return Optional.empty();
+        }
+        return intervals.getOverlapping(lesson.getStartTime().toMinuteOfDay(), lesson.getEndTime().toMinuteOfDay())
+                .stream()
+                .filter(overlapping -> !overlapping.isSameLesson(lesson))
+                .findFirst();
+    }
+
+    /**
+     * Returns true if any two lessons in this timetable overlap.
+     */
+    public boolean hasClashingLessons() {
+        for (LessonIntervalTree intervals : dayToIntervals.values()) {
+            if (intervals.hasOverlaps()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,13 +3,26 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
+import seedu.address.model.util.SequencePositions;
+import seedu.address.model.util.UpdatableObservableList;
 
 /**
  * A list of lessons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,21 +31,99 @@ import seedu.address.model.lesson.exceptions.LessonNotFoundException;
  * unique in terms of identity in the UniqueLessonList. However, the removal of a lesson uses Lesson#equals(Object) so
  * as to ensure that the lesson with exactly the same fields will be removed.
  *
+ * Lessons are additionally indexed by {@code LessonId}, so that identity checks and lookups by id do not need to
+ * scan the whole list. Each lesson is kept at a sequence number that grows in list order and that an edited lesson
+ * inherits, from which its position in the list is found in logarithmic time, so that a lesson can be replaced,
+ * removed or reported as changed in place without searching the list, and without renumbering the lessons after it.
+ * Both are kept in sync with the list on every mutation.
+ *
+ * Lessons are also bucketed by {@code Day}. Each bucket keeps its lessons in the same relative order as the list, so
+ * that queries for a single day only touch that day's lessons. Each day also has an interval tree over lesson times,
+ * so that the lessons overlapping a time window can be found without looking at the rest of the day. The indices are
+ * updated before the observable list is changed, so listeners of the list always observe consistent indices.
+ *
  * Supports a minimal set of list operations.
  *
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
-    private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
+    private static final int MIN_SEQUENCES_BEFORE_RENUMBERING = 16;
+
+    private final UpdatableObservableList<Lesson> internalList = new UpdatableObservableList<>();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<LessonId, Lesson> idToLesson = new HashMap<>();
+    private final Map<LessonId, Integer> idToSequence = new HashMap<>();
+    private final SequencePositions positions = new SequencePositions();
+    private final Map<Day, TreeMap<Integer, Lesson>> dayToLessons = new EnumMap<>(Day.class);
+    private final Map<Day, LessonIntervalTree> dayToIntervals = new EnumMap<>(Day.class);
+    private int nextSequence = 0;
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        return idToLesson.containsKey(toCheck.getLessonId());
+    }
+
+    /**
+     * Returns the lesson in the list with the given {@code lessonId}, if any.
+     */
+    public Optional<Lesson> getById(LessonId lessonId) {
+        requireNonNull(lessonId);
+        return Optional.ofNullable(idToLesson.get(lessonId));
+    }
+
+    /**
+     * Returns the position in the list of the lesson with the same id as {@code lesson}, or -1 if there is none.
+     */
+    public int indexOf(Lesson lesson) {
+        requireNonNull(lesson);
+        Integer sequence = idToSequence.get(lesson.getLessonId());
+        return sequence == null ? -1 : positions.positionOf(sequence);
+    }
+
+    /**
+     * Returns the lessons in the list with the given {@code lessonIds}, in list order.
+     * Ids of lessons not in the list are skipped.
+     */
+    public List<Lesson> getLessonsWithIds(int[] lessonIds) {
+        requireNonNull(lessonIds);
+        List<Lesson> found = new ArrayList<>(lessonIds.length);
+        for (int lessonId : lessonIds) {
+            Lesson lesson = idToLesson.get(new LessonId(lessonId));
+            if (lesson != null) {
+                found.add(lesson);
+            }
+        }
+        found.sort(Comparator.comparingInt(lesson -> idToSequence.get(lesson.getLessonId())));
+        return Collections.unmodifiableList(found);
+    }
+
+    /**
+     * Returns the lessons in the list that fall on {@code day}, in list order.
+     */
+    public List<Lesson> getLessonsOn(Day day) {
+        requireNonNull(day);
+        TreeMap<Integer, Lesson> bucket = dayToLessons.get(day);
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(bucket.values()));
+    }
+
+    /**
+     * Returns the lessons in the list on {@code day} that overlap the window from {@code from} (inclusive) to
+     * {@code to} (exclusive), ordered by start time.
+     */
+    public List<Lesson> getLessonsOverlapping(Day day, Time from, Time to) {
+        requireAllNonNull(day, from, to);
+        LessonIntervalTree intervals = dayToIntervals.get(day);
+        if (intervals == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(intervals.getOverlapping(from.toMinuteOfDay(), to.toMinuteOfDay()));
     }
 
     /**
@@ -44,6 +135,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
+        index(toAdd, takeNextSequence());
         internalList.add(toAdd);
     }
 
@@ -55,8 +147,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Lesson existing = idToLesson.get(target.getLessonId());
+        if (existing == null || !existing.equals(target)) {
             throw new LessonNotFoundException();
         }
 
@@ -64,7 +156,9 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.set(index, editedLesson);
+        int sequence = unindex(existing);
+        index(editedLesson, sequence);
+        internalList.set(positions.positionOf(sequence), editedLesson);
     }
 
     /**
@@ -73,13 +167,18 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Lesson existing = idToLesson.get(toRemove.getLessonId());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new LessonNotFoundException();
         }
+
+        int sequence = unindex(existing);
+        internalList.remove(positions.positionOf(sequence));
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -91,13 +190,31 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
+        List<LessonId> duplicateIds = findDuplicateIds(lessons);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicateLessonException(duplicateIds);
         }
 
+        reindex(lessons);
         internalList.setAll(lessons);
     }
 
+    /**
+     * Tells listeners of the list, in a single change, that the lessons with the given ids changed in place, such as
+     * when their enrollments changed. Ids of lessons not in the list are ignored.
+     */
+    public void markUpdated(Collection<LessonId> lessonIds) {
+        requireAllNonNull(lessonIds);
+        List<Integer> updatedPositions = new ArrayList<>();
+        for (LessonId id : lessonIds) {
+            Integer sequence = idToSequence.get(id);
+            if (sequence != null) {
+                updatedPositions.add(positions.positionOf(sequence));
+            }
+        }
+        internalList.fireUpdated(updatedPositions);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}
      */
@@ -137,16 +254,69 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Adds {@code lesson} to the id index, to its day bucket at position {@code sequence} and to its interval tree.
+     */
+    private void index(Lesson lesson, int sequence) {
+        idToLesson.put(lesson.getLessonId(), lesson);
+        idToSequence.put(lesson.getLessonId(), sequence);
+        positions.add(sequence);
+        dayToLessons.computeIfAbsent(lesson.getDay(), unused -> new TreeMap<>()).put(sequence, lesson);
+        dayToIntervals.computeIfAbsent(lesson.getDay(), unused -> new LessonIntervalTree()).add(lesson);
+    }
+
+    /**
+     * Removes {@code lesson} from every index, and returns its position in the day buckets.
+     */
+    private int unindex(Lesson lesson) {
+        idToLesson.remove(lesson.getLessonId());
+        int sequence = idToSequence.remove(lesson.getLessonId());
+        positions.remove(sequence);
+        dayToLessons.get(lesson.getDay()).remove(sequence);
+        dayToIntervals.get(lesson.getDay()).remove(lesson);
+        return sequence;
+    }
+
+    /**
+     * Returns the sequence number for a lesson added to the end of the list. The lessons are first renumbered from 0
+     * once removals have left most sequence numbers unused, so that the indices keyed by sequence number stay
+     * within twice the size of the list.
+     */
+    private int takeNextSequence() {
+        if (nextSequence >= 2 * Math.max(internalList.size(), MIN_SEQUENCES_BEFORE_RENUMBERING)) {
+            reindex(internalList);
+        }
+        return nextSequence++;
+    }
+
+    /**
+     * Rebuilds every index from {@code lessons}, which will become the new contents of the list.
+     */
+    private void reindex(List<Lesson> lessons) {
+        idToLesson.clear();
+        idToSequence.clear();
+        positions.clear();
+        dayToLessons.clear();
+        dayToIntervals.clear();
+        nextSequence = 0;
+        for (Lesson lesson : lessons) {
+            index(lesson, nextSequence++);
+        }
+    }
+
+    /**
+     * Returns the ids that are shared by more than one lesson in {@code lessons}, each reported once and in the
+     * order their first duplicate appears. An empty list means {@code lessons} contains only unique lessons.
      */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
+    private static List<LessonId> findDuplicateIds(List<Lesson> lessons) {
+        Set<LessonId> seen = new HashSet<>();
+        Set<LessonId> reported = new HashSet<>();
+        List<LessonId> duplicateIds = new ArrayList<>();
+        for (Lesson lesson : lessons) {
+            LessonId lessonId = lesson.getLessonId();
+            if (!seen.add(lessonId) && reported.add(lessonId)) {
+                duplicateIds.add(lessonId);
             }
         }
-        return true;
+        return duplicateIds;
     }
 }
@@ -1,5 +1,8 @@
 package seedu.address.model.lesson.exceptions;
 
+import java.util.Collection;
+
+import seedu.address.model.lesson.LessonId;
 
 /**
  * Signals that the operation will result in duplicate Lessons (if they have the same identity)
@@ -8,4 +11,11 @@ public class DuplicateLessonException extends RuntimeException {
     public DuplicateLessonException() {
         super("Operation would result in duplicate lessons");
     }
+
+    /**
+     * Constructs a {@code DuplicateLessonException} that lists every conflicting {@code LessonId}.
+     */
+    public DuplicateLessonException(Collection<LessonId> duplicateIds) {
+        super("Operation would result in duplicate lessons with ids: " + duplicateIds);
+    }
 }
@@ -1,15 +1,17 @@
 package seedu.address.model.lesson.predicates;
 
-import java.util.function.Predicate;
+import java.util.Collection;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.lesson.Day;
 import seedu.address.model.lesson.Lesson;
 
 /**
  * Tests that a {@code Lesson}'s {@code Day} matches the Day provided
  */
-public class DayMatchesPredicate implements Predicate<Lesson> {
+public class DayMatchesPredicate implements IndexedPredicate<Lesson> {
     private final Day day;
 
     public DayMatchesPredicate(Day day) {
@@ -21,6 +23,11 @@ public class DayMatchesPredicate implements Predicate<Lesson> {
         return lesson.getDay() == this.day;
     }
 
+    @Override
+    public Collection<Lesson> getCandidates(AddressBook addressBook) {
+        return addressBook.getLessonsOn(day);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,8 +1,10 @@
 package seedu.address.model.lesson.predicates;
 
-import java.util.function.Predicate;
+import java.util.Collection;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
 
@@ -10,7 +12,7 @@ import seedu.address.model.person.Person;
  * Tests that a {@code Lesson} contains the specified {@code Person}.
  * Test returns true if the {@code Person} is a student of the {@code Lesson}.
  */
-public class LessonContainsStudentPredicate implements Predicate<Lesson> {
+public class LessonContainsStudentPredicate implements IndexedPredicate<Lesson> {
 
     private final Person person;
 
@@ -23,6 +25,11 @@ public class LessonContainsStudentPredicate implements Predicate<Lesson> {
         return lesson.hasStudent(person);
     }
 
+    @Override
+    public Collection<Lesson> getCandidates(AddressBook addressBook) {
+        return addressBook.getLessonsOf(person);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
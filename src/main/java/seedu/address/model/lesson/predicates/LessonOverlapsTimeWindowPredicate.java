@@ -0,0 +1,89 @@
+package seedu.address.model.lesson.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+
+/**
+ * Tests that a {@code Lesson} is on the given {@code Day} and overlaps the time window from {@code from} (inclusive)
+ * to {@code to} (exclusive). A lesson that ends exactly when the window starts, or starts exactly when it ends, does
+ * not overlap it.
+ */
+public class LessonOverlapsTimeWindowPredicate implements IndexedPredicate<Lesson> {
+    // The order of the lessons returned by the interval tree of a day
+    private static final Comparator<Lesson> START_TIME_ORDER = Comparator
+            .comparingInt((Lesson lesson) -> lesson.getStartTime().toMinuteOfDay())
+            .thenComparingInt(lesson -> lesson.getLessonId().value);
+
+    private final Day day;
+    private final Time from;
+    private final Time to;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public LessonOverlapsTimeWindowPredicate(Day day, Time from, Time to) {
+        requireAllNonNull(day, from, to);
+        this.day = day;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Lesson lesson) {
+        return lesson.getDay() == day
+                && !to.isBeforeandEquals(lesson.getStartTime())
+                && !lesson.getEndTime().isBeforeandEquals(from);
+    }
+
+    @Override
+    public Collection<Lesson> getCandidates(AddressBook addressBook) {
+        return addressBook.getLessonsOverlapping(day, from, to);
+    }
+
+    @Override
+    public Optional<Comparator<Lesson>> getOrder() {
+        return Optional.of(START_TIME_ORDER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonOverlapsTimeWindowPredicate)) {
+            return false;
+        }
+
+        LessonOverlapsTimeWindowPredicate otherPredicate = (LessonOverlapsTimeWindowPredicate) other;
+        return day.equals(otherPredicate.day)
+                && from.equals(otherPredicate.from)
+                && to.equals(otherPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("day", day)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
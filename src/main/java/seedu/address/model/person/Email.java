@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -34,6 +36,7 @@ public class Email {
             ALPHANUMERIC_NO_UNDERSCORE + "(-" + ALPHANUMERIC_NO_UNDERSCORE + ")*";
     private static final String DOMAIN_REGEX = DOMAIN_PART_REGEX + "(\\." + DOMAIN_PART_REGEX + ")+";
     public static final String VALIDATION_REGEX = "^" + LOCAL_PART_REGEX + "@" + DOMAIN_REGEX + "$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -43,17 +46,31 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isTrusted) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of {@code email} without checking that it is valid.
+     * Only for email addresss known to be valid, such as ones read back unchanged from a data file this app wrote.
+     */
+    public static Email fromTrusted(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      * 255 is the max length of a valid gmail address
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 255;
+        return test.length() <= 255 && VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
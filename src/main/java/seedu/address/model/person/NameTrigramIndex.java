@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the trigrams (substrings of length 3) of lower-cased names to the persons whose names
+ * contain them, used to find the persons whose names contain a keyword without looking at every name.
+ * Each person is stored at a sequence number given by the {@code UniquePersonList} that owns this index, and results
+ * come out in sequence order.
+ */
+class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final TreeMap<Integer, Entry> sequenceToEntry = new TreeMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index at {@code sequence}, which must not be taken by another person.
+     */
+    void add(Person person, int sequence) {
+        Entry entry = new Entry(person);
+        sequenceToEntry.put(sequence, entry);
+        for (String trigram : trigramsOf(entry.lowerCaseName)) {
+            postings.computeIfAbsent(trigram, unused -> new PostingList()).add(sequence);
+        }
+    }
+
+    /**
+     * Removes the person at {@code sequence} from the index.
+     */
+    void remove(int sequence) {
+        Entry entry = sequenceToEntry.remove(sequence);
+        for (String trigram : trigramsOf(entry.lowerCaseName)) {
+            PostingList postingList = postings.get(trigram);
+            postingList.remove(sequence);
+            if (postingList.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        sequenceToEntry.clear();
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose names contain {@code keyword}, ignoring case, in index order.
+     * Keywords shorter than a trigram cannot be looked up in the postings, so every name is checked instead.
+     */
+    List<Person> find(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.length() < GRAM_LENGTH) {
+            return scan(preppedKeyword);
+        }
+
+        List<PostingList> postingLists = new ArrayList<>();
+        for (String trigram : trigramsOf(preppedKeyword)) {
+            PostingList postingList = postings.get(trigram);
+            if (postingList == null) {
+                return Collections.emptyList();
+            }
+            postingLists.add(postingList);
+        }
+        postingLists.sort(Comparator.comparingInt(postingList -> postingList.size));
+
+        List<Person> matches = new ArrayList<>();
+        PostingList shortest = postingLists.get(0);
+        List<PostingList> otherPostingLists = postingLists.subList(1, postingLists.size());
+        for (int i = 0; i < shortest.size; i++) {
+            int sequence = shortest.sequences[i];
+            if (otherPostingLists.stream().allMatch(postingList -> postingList.contains(sequence))) {
+                Entry entry = sequenceToEntry.get(sequence);
+                // sharing every trigram does not guarantee the trigrams are adjacent, so verify the candidate
+                if (entry.lowerCaseName.contains(preppedKeyword)) {
+                    matches.add(entry.person);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private List<Person> scan(String preppedKeyword) {
+        List<Person> matches = new ArrayList<>();
+        for (Entry entry : sequenceToEntry.values()) {
+            if (entry.lowerCaseName.contains(preppedKeyword)) {
+                matches.add(entry.person);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * The positions of the persons whose names contain a trigram, kept sorted in an array.
+     * Persons are usually added after every existing person, in which case adding is a plain append.
+     */
+    private static class PostingList {
+        private int[] sequences = new int[2];
+        private int size = 0;
+
+        void add(int sequence) {
+            int insertionPoint = size == 0 || sequences[size - 1] < sequence
+                    ? size
+                    : -Arrays.binarySearch(sequences, 0, size, sequence) - 1;
+            if (size == sequences.length) {
+                sequences = Arrays.copyOf(sequences, size * 2);
+            }
+            System.arraycopy(sequences, insertionPoint, sequences, insertionPoint + 1, size - insertionPoint);
+            sequences[insertionPoint] = sequence;
+            size++;
+        }
+
+        void remove(int sequence) {
+            int position = Arrays.binarySearch(sequences, 0, size, sequence);
+            System.arraycopy(sequences, position + 1, sequences, position, size - position - 1);
+            size--;
+        }
+
+        boolean contains(int sequence) {
+            return Arrays.binarySearch(sequences, 0, size, sequence) >= 0;
+        }
+    }
+
+    private static class Entry {
+        private final Person person;
+        private final String lowerCaseName;
+
+        Entry(Person person) {
+            this.person = person;
+            this.lowerCaseName = person.getName().fullName.toLowerCase();
+        }
+    }
+}
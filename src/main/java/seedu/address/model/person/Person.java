@@ -1,21 +1,26 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Enrollment;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Timetable;
 import seedu.address.model.note.Note;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated. The details are immutable, while the
+ * lessons of a person change as it is assigned and unassigned.
  */
 public class Person {
     public static final String MESSAGE_LESSON_NOT_FOUND = "Cannot replace lesson as it is not found.";
@@ -34,7 +39,12 @@ public class Person {
     // Data fields
     private final Note note;
     private final Set<Tag> tags = new HashSet<>();
+    // Only used while this person is not in an address book; after that, its lessons are kept in the enrollment
     private final Set<Lesson> lessons = new HashSet<>();
+    // The same lessons as above, grouped by day with their times indexed; built on first use, since most detached
+    // persons, such as those copied for saving, are never asked about clashes
+    private Timetable timetable;
+    private Enrollment enrollment;
 
     /**
      * Every field must not be null
@@ -47,7 +57,7 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.note = note;
-        this.lessons.addAll(lessons);
+        lessons.forEach(this::addLesson);
         this.tags.addAll(tags);
     }
 
@@ -94,6 +104,9 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Lesson> getLessons() {
+        if (enrollment != null) {
+            return enrollment.getLessons(userId);
+        }
         return Collections.unmodifiableSet(lessons);
     }
 
@@ -107,18 +120,20 @@ public class Person {
 
     /**
      * Replaces a lesson for this person with a new lesson.
+     * Only for a person that is not in an address book; the lessons of one that is are changed through
+     * {@code AddressBook#assign} and {@code AddressBook#unassign}, which record the change.
      *
      * @param lessonToReplace the lesson to be replaced
      * @param replacedLesson the new lesson
      * @throws IllegalValueException if the lesson to replace is not found for this person
      */
-    public void replaceLesson(Lesson lessonToReplace, Lesson replacedLesson) throws IllegalValueException {
-        if (!lessons.contains(lessonToReplace)) {
+    void replaceLesson(Lesson lessonToReplace, Lesson replacedLesson) throws IllegalValueException {
+        if (!hasLesson(lessonToReplace)) {
             throw new IllegalValueException(MESSAGE_LESSON_NOT_FOUND);
         }
 
-        lessons.remove(lessonToReplace);
-        lessons.add(replacedLesson);
+        removeLesson(lessonToReplace);
+        addLesson(replacedLesson);
     }
 
     /**
@@ -138,25 +153,99 @@ public class Person {
      * Returns true if this person is a student of the input lesson
      */
     public boolean hasLesson(Lesson lesson) {
+        if (enrollment != null) {
+            return enrollment.hasLesson(userId, lesson);
+        }
         return lessons.contains(lesson);
     }
 
     /**
      * Adds a lesson to this person's set of lessons.
+     * Only for a person that is not in an address book, like {@link #replaceLesson}.
      *
      * @param lesson the lesson to add
      */
-    public void addLesson(Lesson lesson) {
-        lessons.add(lesson);
+    void addLesson(Lesson lesson) {
+        assert enrollment == null : "lessons of a person in an address book are assigned through the address book";
+        if (lessons.add(lesson) && timetable != null) {
+            timetable.add(lesson);
+        }
     }
 
     /**
      * Removes a lesson from this person's set of lessons.
+     * Only for a person that is not in an address book, like {@link #replaceLesson}.
      *
      * @param lesson the lesson to remove
      */
-    public void removeLesson(Lesson lesson) {
-        lessons.remove(lesson);
+    void removeLesson(Lesson lesson) {
+        assert enrollment == null : "lessons of a person in an address book are assigned through the address book";
+        if (lessons.remove(lesson) && timetable != null) {
+            timetable.remove(lesson);
+        }
+    }
+
+    /**
+     * Returns true if this person is in an address book, which then keeps its lessons.
+     */
+    public boolean isAttached() {
+        return enrollment != null;
+    }
+
+    /**
+     * Makes {@code enrollment} the record of this person's lessons, carrying over the lessons it has so far.
+     * Only to be called by the address book that {@code enrollment} belongs to, when this person is added to it.
+     */
+    public void attachTo(Enrollment enrollment) {
+        requireNonNull(enrollment);
+        assert this.enrollment == null : "already in an address book";
+        for (Lesson lesson : getLessons()) {
+            enrollment.assign(userId, lesson.getLessonId());
+        }
+        lessons.clear();
+        timetable = null;
+        this.enrollment = enrollment;
+    }
+
+    /**
+     * Keeps this person's current lessons with this person again, instead of in its enrollment.
+     * Only to be called by the address book this person belongs to, when this person is removed from it.
+     */
+    public void detach() {
+        if (enrollment == null) {
+            return;
+        }
+        Set<Lesson> assignedLessons = enrollment.getLessons(userId);
+        enrollment = null;
+        assignedLessons.forEach(this::addLesson);
+    }
+
+    /**
+     * Returns a lesson of this person, other than {@code lesson} itself, that overlaps {@code lesson}, if any.
+     */
+    public Optional<Lesson> getClashingLesson(Lesson lesson) {
+        if (enrollment != null) {
+            return enrollment.getClashingLesson(userId, lesson);
+        }
+        return getTimetable().getClashingLesson(lesson);
+    }
+
+    /**
+     * Returns true if any two lessons of this person overlap.
+     */
+    public boolean hasClashingLessons() {
+        if (enrollment != null) {
+            return enrollment.hasClashingLessons(userId);
+        }
+        return getTimetable().hasClashingLessons();
+    }
+
+    private Timetable getTimetable() {
+        if (timetable == null) {
+            timetable = new Timetable();
+            lessons.forEach(timetable::add);
+        }
+        return timetable;
     }
 
     /**
@@ -196,7 +285,7 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("note", note)
-                .add("lessons", lessons)
+                .add("lessons", getLessons())
                 .add("tags", tags)
                 .toString();
     }
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from tags to the persons that have them.
+ * Every person is given a small ordinal, and the persons with a tag are kept as a bitmap over those ordinals, so that
+ * queries over several tags are answered by intersecting or joining bitmaps. The ordinal of a removed person is given
+ * to the next person added, which keeps the ordinals, and so the bitmaps, as small as the number of persons.
+ * Each person is also stored with a sequence number given by the {@code UniquePersonList} that owns this index, and
+ * results come out in sequence order.
+ */
+class TagIndex {
+
+    private final Map<UserId, Integer> idToOrdinal = new HashMap<>();
+    private final List<Entry> ordinalToEntry = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+    private final Map<Tag, BitSet> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index at {@code sequence}, which must not be taken by another person.
+     */
+    void add(Person person, int sequence) {
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal < 0) {
+            ordinal = ordinalToEntry.size();
+            ordinalToEntry.add(null);
+        } else {
+            freeOrdinals.clear(ordinal);
+        }
+
+        idToOrdinal.put(person.getUserId(), ordinal);
+        ordinalToEntry.set(ordinal, new Entry(person, sequence));
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, freeing its ordinal for the next person added.
+     */
+    void remove(Person person) {
+        int ordinal = idToOrdinal.remove(person.getUserId());
+        Entry entry = ordinalToEntry.set(ordinal, null);
+        for (Tag tag : entry.person.getTags()) {
+            BitSet postingList = postings.get(tag);
+            postingList.clear(ordinal);
+            if (postingList.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+        freeOrdinals.set(ordinal);
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        idToOrdinal.clear();
+        ordinalToEntry.clear();
+        freeOrdinals.clear();
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons that have every tag in {@code tags}, in sequence order.
+     */
+    List<Person> findWithAllTags(Collection<Tag> tags) {
+        BitSet matches = null;
+        for (Tag tag : tags) {
+            BitSet postingList = postings.get(tag);
+            if (postingList == null) {
+                return new ArrayList<>();
+            }
+            if (matches == null) {
+                matches = (BitSet) postingList.clone();
+            } else {
+                matches.and(postingList);
+            }
+        }
+
+        if (matches == null) {
+            // every person has all of no tags
+            matches = new BitSet();
+            matches.set(0, ordinalToEntry.size());
+            matches.andNot(freeOrdinals);
+        }
+        return toPersons(matches);
+    }
+
+    /**
+     * Returns the persons that have at least one tag in {@code tags}, in sequence order.
+     */
+    List<Person> findWithAnyTag(Collection<Tag> tags) {
+        BitSet matches = new BitSet();
+        for (Tag tag : tags) {
+            BitSet postingList = postings.get(tag);
+            if (postingList != null) {
+                matches.or(postingList);
+            }
+        }
+        return toPersons(matches);
+    }
+
+    private List<Person> toPersons(BitSet ordinals) {
+        List<Entry> entries = new ArrayList<>(ordinals.cardinality());
+        for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+            entries.add(ordinalToEntry.get(ordinal));
+        }
+        // ordinals are reused, so they do not follow the order of the list
+        entries.sort(Comparator.comparingInt(entry -> entry.sequence));
+
+        List<Person> persons = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            persons.add(entry.person);
+        }
+        return persons;
+    }
+
+    private static class Entry {
+        private final Person person;
+        private final int sequence;
+
+        Entry(Person person, int sequence) {
+            this.person = person;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -3,13 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SequencePositions;
+import seedu.address.model.util.UpdatableObservableList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +30,97 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code UserId}, so that identity checks and lookups by id do not need to
+ * scan the whole list. Names are also indexed by trigram, so that substring searches on names only verify the persons
+ * that share every trigram of the keyword, and tags are indexed so that searches by tag do not test every person.
+ * The name and tag indices return persons in list order, by keeping each person at a sequence number that grows in
+ * the order persons are added and that an edited person inherits. The indices are updated before the observable list
+ * is changed, so listeners of the list always observe indices that are consistent with it. The position of each
+ * person in the list is found from its sequence number in logarithmic time, so that a person can be replaced, removed
+ * or reported as changed in place without searching the list, and without renumbering the persons after it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private static final int MIN_SEQUENCES_BEFORE_RENUMBERING = 16;
+
+    private final UpdatableObservableList<Person> internalList = new UpdatableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UserId, Person> idToPerson = new HashMap<>();
+    private final Map<UserId, Integer> idToSequence = new HashMap<>();
+    private final SequencePositions positions = new SequencePositions();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private int nextSequence = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return idToPerson.containsKey(toCheck.getUserId());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code userId}, if any.
+     */
+    public Optional<Person> getById(UserId userId) {
+        requireNonNull(userId);
+        return Optional.ofNullable(idToPerson.get(userId));
+    }
+
+    /**
+     * Returns the position in the list of the person with the same id as {@code person}, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer sequence = idToSequence.get(person.getUserId());
+        return sequence == null ? -1 : positions.positionOf(sequence);
+    }
+
+    /**
+     * Returns the persons in the list whose names contain {@code keyword}, ignoring case, in list order.
+     */
+    public List<Person> getPersonsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        return Collections.unmodifiableList(nameIndex.find(keyword));
+    }
+
+    /**
+     * Returns the persons in the list that have every tag in {@code tags}, in list order.
+     */
+    public List<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        return Collections.unmodifiableList(tagIndex.findWithAllTags(tags));
+    }
+
+    /**
+     * Returns the persons in the list that have at least one tag in {@code tags}, in list order.
+     */
+    public List<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        return Collections.unmodifiableList(tagIndex.findWithAnyTag(tags));
+    }
+
+    /**
+     * Returns the persons in the list with the given {@code userIds}, in list order.
+     * Ids of persons not in the list are skipped.
+     */
+    public List<Person> getPersonsWithIds(int[] userIds) {
+        requireNonNull(userIds);
+        List<Person> found = new ArrayList<>(userIds.length);
+        for (int userId : userIds) {
+            Person person = idToPerson.get(new UserId(userId));
+            if (person != null) {
+                found.add(person);
+            }
+        }
+        found.sort(Comparator.comparingInt(person -> idToSequence.get(person.getUserId())));
+        return Collections.unmodifiableList(found);
     }
 
     /**
@@ -45,6 +132,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd, takeNextSequence());
         internalList.add(toAdd);
     }
 
@@ -56,8 +144,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existing = idToPerson.get(target.getUserId());
+        if (existing == null || !existing.equals(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +153,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        int sequence = unindex(existing);
+        index(editedPerson, sequence);
+        internalList.set(positions.positionOf(sequence), editedPerson);
     }
 
     /**
@@ -74,13 +164,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = idToPerson.get(toRemove.getUserId());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+
+        int sequence = unindex(existing);
+        internalList.remove(positions.positionOf(sequence));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +185,31 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<UserId> duplicateIds = findDuplicateIds(persons);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
         }
 
+        reindex(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Tells listeners of the list, in a single change, that the persons with the given ids changed in place, such as
+     * when their enrollments changed. Ids of persons not in the list are ignored.
+     */
+    public void markUpdated(Collection<UserId> userIds) {
+        requireAllNonNull(userIds);
+        List<Integer> updatedPositions = new ArrayList<>();
+        for (UserId id : userIds) {
+            Integer sequence = idToSequence.get(id);
+            if (sequence != null) {
+                updatedPositions.add(positions.positionOf(sequence));
+            }
+        }
+        internalList.fireUpdated(updatedPositions);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,16 +248,69 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Adds {@code person} to every index at position {@code sequence}.
+     */
+    private void index(Person person, int sequence) {
+        idToPerson.put(person.getUserId(), person);
+        idToSequence.put(person.getUserId(), sequence);
+        positions.add(sequence);
+        nameIndex.add(person, sequence);
+        tagIndex.add(person, sequence);
+    }
+
+    /**
+     * Removes {@code person} from every index, and returns the position it had.
+     */
+    private int unindex(Person person) {
+        idToPerson.remove(person.getUserId());
+        int sequence = idToSequence.remove(person.getUserId());
+        positions.remove(sequence);
+        nameIndex.remove(sequence);
+        tagIndex.remove(person);
+        return sequence;
+    }
+
+    /**
+     * Returns the sequence number for a person added to the end of the list. The persons are first renumbered from 0
+     * once removals have left most sequence numbers unused, so that the indices keyed by sequence number stay
+     * within twice the size of the list.
+     */
+    private int takeNextSequence() {
+        if (nextSequence >= 2 * Math.max(internalList.size(), MIN_SEQUENCES_BEFORE_RENUMBERING)) {
+            reindex(internalList);
+        }
+        return nextSequence++;
+    }
+
+    /**
+     * Rebuilds every index from {@code persons}, which will become the new contents of the list.
+     */
+    private void reindex(List<Person> persons) {
+        idToPerson.clear();
+        idToSequence.clear();
+        positions.clear();
+        nameIndex.clear();
+        tagIndex.clear();
+        nextSequence = 0;
+        for (Person person : persons) {
+            index(person, nextSequence++);
+        }
+    }
+
+    /**
+     * Returns the ids that are shared by more than one person in {@code persons}, each reported once and in the
+     * order their first duplicate appears. An empty list means {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static List<UserId> findDuplicateIds(List<Person> persons) {
+        Set<UserId> seen = new HashSet<>();
+        Set<UserId> reported = new HashSet<>();
+        List<UserId> duplicateIds = new ArrayList<>();
+        for (Person person : persons) {
+            UserId userId = person.getUserId();
+            if (!seen.add(userId) && reported.add(userId)) {
+                duplicateIds.add(userId);
             }
         }
-        return true;
+        return duplicateIds;
     }
 }
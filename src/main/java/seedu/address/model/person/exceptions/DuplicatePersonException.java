@@ -1,5 +1,9 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+
+import seedu.address.model.person.UserId;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +12,11 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that lists every conflicting {@code UserId}.
+     */
+    public DuplicatePersonException(Collection<UserId> duplicateIds) {
+        super("Operation would result in duplicate persons with ids: " + duplicateIds);
+    }
 }
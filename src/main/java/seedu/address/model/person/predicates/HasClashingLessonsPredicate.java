@@ -0,0 +1,37 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} has at least two lessons that overlap.
+ */
+public class HasClashingLessonsPredicate implements Predicate<Person> {
+
+    @Override
+    public boolean test(Person person) {
+        return person.hasClashingLessons();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        return other instanceof HasClashingLessonsPredicate;
+    }
+
+    @Override
+    public int hashCode() {
+        return HasClashingLessonsPredicate.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has every one of the given tags or, if {@code matchesAll} is false, at least one of
+ * them.
+ */
+public class HasTagsPredicate implements IndexedPredicate<Person> {
+    private final Set<Tag> tags;
+    private final boolean matchesAll;
+
+    /**
+     * Creates a predicate over {@code tags}, which must not be null.
+     */
+    public HasTagsPredicate(Set<Tag> tags, boolean matchesAll) {
+        requireNonNull(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.matchesAll = matchesAll;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> personTags = person.getTags();
+        return matchesAll
+                ? personTags.containsAll(tags)
+                : tags.stream().anyMatch(personTags::contains);
+    }
+
+    @Override
+    public Collection<Person> getCandidates(AddressBook addressBook) {
+        return matchesAll
+                ? addressBook.getPersonsWithAllTags(tags)
+                : addressBook.getPersonsWithAnyTag(tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HasTagsPredicate)) {
+            return false;
+        }
+
+        HasTagsPredicate otherPredicate = (HasTagsPredicate) other;
+        return tags.equals(otherPredicate.tags)
+                && matchesAll == otherPredicate.matchesAll;
+    }
+
+    @Override
+    public int hashCode() {
+        return tags.hashCode() * 31 + Boolean.hashCode(matchesAll);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("matchesAll", matchesAll)
+                .toString();
+    }
+}
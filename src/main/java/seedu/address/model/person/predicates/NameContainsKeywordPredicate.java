@@ -1,9 +1,11 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.Collection;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -11,7 +13,7 @@ import seedu.address.model.person.Person;
  * String does not have to be an exact match.
  * Test returns true as long as input String is a subsequence of {@code Name}
  */
-public class NameContainsKeywordPredicate implements Predicate<Person> {
+public class NameContainsKeywordPredicate implements IndexedPredicate<Person> {
     private final String name;
 
     public NameContainsKeywordPredicate(String name) {
@@ -23,6 +25,11 @@ public class NameContainsKeywordPredicate implements Predicate<Person> {
         return StringUtil.containsWordIgnoreCase(person.getName().fullName, name);
     }
 
+    @Override
+    public Collection<Person> getCandidates(AddressBook addressBook) {
+        return addressBook.getPersonsWithNameContaining(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
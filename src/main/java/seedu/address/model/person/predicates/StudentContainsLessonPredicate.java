@@ -1,8 +1,10 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.Collection;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
 
@@ -10,7 +12,7 @@ import seedu.address.model.person.Person;
  * Tests that a {@code Person} contains the specified {@code Lesson}.
  * Test returns true if the {@code Person} is a student of the {@code Lesson}.
  */
-public class StudentContainsLessonPredicate implements Predicate<Person> {
+public class StudentContainsLessonPredicate implements IndexedPredicate<Person> {
 
     private final Lesson lesson;
 
@@ -23,6 +25,11 @@ public class StudentContainsLessonPredicate implements Predicate<Person> {
         return person.hasLesson(lesson);
     }
 
+    @Override
+    public Collection<Person> getCandidates(AddressBook addressBook) {
+        return addressBook.getStudentsOf(lesson);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Tag in the address book.
@@ -21,20 +22,51 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isTrusted) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} of {@code tagName} without checking that it is valid.
+     * Only for tag names known to be valid, such as ones read back unchanged from a data file this app wrote.
+     */
+    public static Tag fromTrusted(String tagName) {
+        return new Tag(tagName, true);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        // Check length, matches regex, and contains at least one alphanumeric character
-        return test.length() > 0
-                && test.length() <= 50
-                && test.matches(VALIDATION_REGEX)
-                && test.matches(".*\\p{Alnum}.*");
+        // Check length, matches VALIDATION_REGEX, and contains at least one alphanumeric character, in one pass
+        int length = test.length();
+        if (length == 0 || length > 50) {
+            return false;
+        }
+        boolean hasAlphanumeric = false;
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                hasAlphanumeric = true;
+            } else if (!isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code c} matches the regex {@code \s}, that is, if it is an ASCII whitespace character.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
     }
 
     @Override
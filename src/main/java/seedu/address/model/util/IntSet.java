@@ -0,0 +1,148 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A set of ints kept in ascending order in a single array, without boxing them.
+ * Looking up a value takes logarithmic time, while adding and removing one shifts the values after it, which suits
+ * the small sets of ids that each student and lesson is linked to.
+ */
+public class IntSet {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] values = EMPTY;
+    private int size = 0;
+    // Counts the values added and removed, so that iterators can tell when this set changes under them
+    private int modificationCount = 0;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value at {@code index} in ascending order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not less than the size of this set.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    /**
+     * Adds {@code value} to this set.
+     *
+     * @return true if this set did not already contain {@code value}.
+     */
+    public boolean add(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+
+        int insertionPoint = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, size * 2));
+        }
+        System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+        values[insertionPoint] = value;
+        size++;
+        modificationCount++;
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from this set.
+     *
+     * @return true if this set contained {@code value}.
+     */
+    public boolean remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modificationCount++;
+        return true;
+    }
+
+    /**
+     * Returns an iterator over the values of this set in ascending order.
+     * The iterator throws {@code ConcurrentModificationException} once this set changes.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final int expectedModificationCount = modificationCount;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (modificationCount != expectedModificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return values[index++];
+            }
+        };
+    }
+
+    /**
+     * Returns the values of this set in ascending order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IntSet)) {
+            return false;
+        }
+
+        IntSet otherSet = (IntSet) other;
+        return Arrays.equals(values, 0, size, otherSet.values, 0, otherSet.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -57,17 +57,17 @@ public class SampleDataUtil {
 
     public static Lesson[] getSampleLessons() {
         return new Lesson[] {
-            new Lesson(new LessonId(0), Day.MON, new Time("1000"), new Time("1200"),
+            new Lesson(new LessonId(0), Day.MON, Time.of("1000"), Time.of("1200"),
                 new Venue("COM1-B103"), new Note("Introduction to Programming")),
-            new Lesson(new LessonId(1), Day.TUE, new Time("1400"), new Time("1600"),
+            new Lesson(new LessonId(1), Day.TUE, Time.of("1400"), Time.of("1600"),
                 new Venue("COM2-0204"), new Note("Data Structures and Algorithms")),
-            new Lesson(new LessonId(2), Day.WED, new Time("0900"), new Time("1100"),
+            new Lesson(new LessonId(2), Day.WED, Time.of("0900"), Time.of("1100"),
                 new Venue("S16-0430"), new Note("Calculus I")),
-            new Lesson(new LessonId(3), Day.THU, new Time("1500"), new Time("1700"),
+            new Lesson(new LessonId(3), Day.THU, Time.of("1500"), Time.of("1700"),
                 new Venue("LT19"), new Note("Software Engineering")),
-            new Lesson(new LessonId(4), Day.FRI, new Time("1300"), new Time("1500"),
+            new Lesson(new LessonId(4), Day.FRI, Time.of("1300"), Time.of("1500"),
                 new Venue("COM1-0217"), new Note("Database Systems")),
-            new Lesson(new LessonId(5), Day.MON, new Time("1600"), new Time("1800"),
+            new Lesson(new LessonId(5), Day.MON, Time.of("1600"), Time.of("1800"),
                 new Venue("AS6-0426"), new Note("Physics for Computing"))
         };
     }
@@ -83,17 +83,14 @@ public class SampleDataUtil {
 
         Person firstPerson = sampleAb.getPersonList().get(0);
         Lesson firstLesson = sampleAb.getLessonList().get(0);
-        firstPerson.addLesson(firstLesson);
-        firstLesson.addStudent(firstPerson);
+        sampleAb.assign(firstPerson, firstLesson);
 
         Person secondPerson = sampleAb.getPersonList().get(1);
         Lesson secondLesson = sampleAb.getLessonList().get(1);
-        secondPerson.addLesson((secondLesson));
-        secondLesson.addStudent(secondPerson);
+        sampleAb.assign(secondPerson, secondLesson);
 
         Person thirdPerson = sampleAb.getPersonList().get(2);
-        thirdPerson.addLesson(secondLesson);
-        secondLesson.addStudent(thirdPerson);
+        sampleAb.assign(thirdPerson, secondLesson);
 
         // Essential for ensuring static ID fields are initialized correctly, change if sample data changes
         sampleAb.setInitialMaxUserId(6);
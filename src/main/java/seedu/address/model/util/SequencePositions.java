@@ -0,0 +1,83 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+
+/**
+ * The positions in a list of elements that are each kept at a sequence number, for lists whose sequence numbers grow
+ * in list order. The position of an element is the number of elements at smaller sequence numbers, which a Fenwick
+ * tree over the sequence numbers counts in O(log n) time. Removing an element thus takes O(log n) time too, instead
+ * of renumbering every element after it.
+ */
+public class SequencePositions {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // 1-based Fenwick tree, in which node i counts the elements at sequence numbers i - (i & -i) to i - 1
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private boolean[] isPresent = new boolean[INITIAL_CAPACITY];
+
+    /**
+     * Adds an element at {@code sequence}, which must not hold an element already.
+     */
+    public void add(int sequence) {
+        if (sequence >= isPresent.length) {
+            grow(sequence + 1);
+        }
+        assert !isPresent[sequence];
+        isPresent[sequence] = true;
+        update(sequence, 1);
+    }
+
+    /**
+     * Removes the element at {@code sequence}, which must hold one.
+     */
+    public void remove(int sequence) {
+        assert sequence < isPresent.length && isPresent[sequence];
+        isPresent[sequence] = false;
+        update(sequence, -1);
+    }
+
+    /**
+     * Returns the position in the list of the element at {@code sequence}, that is the number of elements at smaller
+     * sequence numbers.
+     */
+    public int positionOf(int sequence) {
+        int position = 0;
+        for (int i = Math.min(sequence, isPresent.length); i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        tree = new int[INITIAL_CAPACITY + 1];
+        isPresent = new boolean[INITIAL_CAPACITY];
+    }
+
+    private void update(int sequence, int delta) {
+        for (int i = sequence + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Makes room for sequence numbers below {@code minCapacity}, rebuilding the tree in linear time.
+     */
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, isPresent.length * 2);
+        isPresent = Arrays.copyOf(isPresent, capacity);
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (isPresent[i - 1]) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list that can also tell its listeners that some of its elements changed in place.
+ * All such elements are reported in a single change, in which each of them is replaced with itself, so that a
+ * listener that recomputes on every change does so once, however many elements changed. Other edits can be grouped
+ * into a single change in the same way.
+ */
+public class UpdatableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Tells the listeners of this list that the elements at {@code indices} changed in place, in one change.
+     * Nothing is reported if {@code indices} is empty.
+     */
+    public void fireUpdated(Collection<Integer> indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+
+        SortedSet<Integer> sortedIndices = new TreeSet<>(indices);
+        beginChange();
+        try {
+            for (int index : sortedIndices) {
+                nextSet(index, elements.get(index));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Runs {@code edits}, which change this list, and reports all of their changes to listeners as a single change.
+     */
+    public void changeTogether(Runnable edits) {
+        beginChange();
+        try {
+            edits.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) in one step, instead of
+     * one at a time from the front, so that clearing the list takes linear time.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        beginChange();
+        try {
+            range.clear();
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+}
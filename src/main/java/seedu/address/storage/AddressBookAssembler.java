@@ -0,0 +1,218 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
+
+/**
+ * Builds the model's {@code AddressBook} out of Jackson-friendly persons and lessons, taking them one at a time.
+ * Persons and lessons that are already model objects, such as those decoded from a binary snapshot, can be added
+ * directly.
+ * Each person or lesson is turned into a model object as soon as it is added, so callers do not need to keep the
+ * adapted objects around. Persons and lessons can be added in any order, and are linked by {@link #assemble()}.
+ *
+ * Enrollments are saved on both sides, but only the lessons' student ids are used to link them. Each student is
+ * added to the lesson, and the lesson to the student, in one step. The persons' lesson ids are only checked to
+ * refer to existing lessons.
+ *
+ * In parallel mode, the persons or lessons in a batch are converted and validated concurrently on the common
+ * fork-join pool, and then added one by one in order. Errors are reported exactly as in sequential mode, that is,
+ * for the first invalid or duplicate entry in the order they were given.
+ */
+class AddressBookAssembler {
+
+    private final boolean isParallel;
+    private final boolean isTrusted;
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<Lesson, int[]> studentIdsOfLessons = new HashMap<>();
+    private final Set<Integer> lessonIdsOfPersons = new HashSet<>();
+    private int maxUserId = -1;
+    private int maxLessonId = -1;
+
+    /**
+     * Creates an assembler that converts persons and lessons one at a time.
+     */
+    AddressBookAssembler() {
+        this(false, false);
+    }
+
+    /**
+     * Creates an assembler that converts the persons and lessons in each batch concurrently if {@code isParallel}
+     * is true.
+     */
+    AddressBookAssembler(boolean isParallel) {
+        this(isParallel, false);
+    }
+
+    /**
+     * Similar to {@link #AddressBookAssembler(boolean)}, but does not check the fields of the persons and lessons
+     * against their constraints if {@code isTrusted} is true, for data known to have been written by this app.
+     */
+    AddressBookAssembler(boolean isParallel, boolean isTrusted) {
+        this.isParallel = isParallel;
+        this.isTrusted = isTrusted;
+    }
+
+    /**
+     * Adds the person described by {@code jsonAdaptedPerson}.
+     *
+     * @throws IllegalValueException if the person is invalid, or has the same id as a person already added.
+     */
+    void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        addPerson(jsonAdaptedPerson.toModelType(isTrusted), jsonAdaptedPerson.getLessonIds());
+    }
+
+    /**
+     * Adds the persons described by {@code jsonAdaptedPersons}, in order.
+     *
+     * @throws IllegalValueException if a person is invalid, or has the same id as a person already added.
+     */
+    void addPersons(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        Person[] persons = new Person[jsonAdaptedPersons.size()];
+        IllegalValueException[] errors = convertAll(jsonAdaptedPersons.size(), i ->
+                persons[i] = jsonAdaptedPersons.get(i).toModelType(isTrusted));
+        for (int i = 0; i < persons.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            addPerson(persons[i], jsonAdaptedPersons.get(i).getLessonIds());
+        }
+    }
+
+    /**
+     * Adds {@code person}, which has already been converted and validated, with no lesson ids of its own.
+     *
+     * @throws IllegalValueException if the person has the same id as a person already added.
+     */
+    void addPerson(Person person) throws IllegalValueException {
+        addPerson(person, Collections.emptyList());
+    }
+
+    private void addPerson(Person person, List<Integer> lessonIds) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        // Track the largest existing user ID
+        maxUserId = Math.max(maxUserId, person.getUserId().value);
+        addressBook.addPerson(person);
+        lessonIdsOfPersons.addAll(lessonIds);
+    }
+
+    /**
+     * Adds the lesson described by {@code jsonAdaptedLesson}.
+     *
+     * @throws IllegalValueException if the lesson is invalid, or has the same id as a lesson already added.
+     */
+    void addLesson(JsonAdaptedLesson jsonAdaptedLesson) throws IllegalValueException {
+        addLesson(jsonAdaptedLesson.toModelType(isTrusted), toIds(jsonAdaptedLesson.getStudentIds()));
+    }
+
+    /**
+     * Adds the lessons described by {@code jsonAdaptedLessons}, in order.
+     *
+     * @throws IllegalValueException if a lesson is invalid, or has the same id as a lesson already added.
+     */
+    void addLessons(List<JsonAdaptedLesson> jsonAdaptedLessons) throws IllegalValueException {
+        Lesson[] lessons = new Lesson[jsonAdaptedLessons.size()];
+        IllegalValueException[] errors = convertAll(jsonAdaptedLessons.size(), i ->
+                lessons[i] = jsonAdaptedLessons.get(i).toModelType(isTrusted));
+        for (int i = 0; i < lessons.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            addLesson(lessons[i], toIds(jsonAdaptedLessons.get(i).getStudentIds()));
+        }
+    }
+
+    /**
+     * Adds {@code lesson}, which has already been converted and validated, with the students with
+     * {@code studentIds}.
+     *
+     * @throws IllegalValueException if the lesson has the same id as a lesson already added.
+     */
+    void addLesson(Lesson lesson, int[] studentIds) throws IllegalValueException {
+        if (addressBook.hasLesson(lesson)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+        }
+        // Track the largest existing lesson ID
+        maxLessonId = Math.max(maxLessonId, lesson.getLessonId().value);
+        addressBook.addLesson(lesson);
+        studentIdsOfLessons.put(lesson, studentIds);
+    }
+
+    private static int[] toIds(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Runs {@code conversion} for every index below {@code count}, concurrently if this assembler is parallel.
+     * Returns the error thrown for each index, or null where the conversion succeeded.
+     */
+    private IllegalValueException[] convertAll(int count, Conversion conversion) {
+        IllegalValueException[] errors = new IllegalValueException[count];
+        if (isParallel) {
+            IntStream.range(0, count).parallel().forEach(i -> errors[i] = convert(conversion, i));
+        } else {
+            for (int i = 0; i < count; i++) {
+                errors[i] = convert(conversion, i);
+            }
+        }
+        return errors;
+    }
+
+    private static IllegalValueException convert(Conversion conversion, int index) {
+        try {
+            conversion.convert(index);
+            return null;
+        } catch (IllegalValueException ive) {
+            return ive;
+        }
+    }
+
+    /**
+     * Converts the entry at an index of a batch, storing the result.
+     */
+    @FunctionalInterface
+    private interface Conversion {
+        void convert(int index) throws IllegalValueException;
+    }
+
+    /**
+     * Links the persons and lessons added so far to each other, and returns the resulting address book.
+     *
+     * @throws IllegalValueException if a person or lesson refers to one that was not added.
+     */
+    AddressBook assemble() throws IllegalValueException {
+        for (Integer lessonId : lessonIdsOfPersons) {
+            if (!addressBook.getById(new LessonId(lessonId)).isPresent()) {
+                throw new IllegalValueException("Person references non-existent lesson ID: " + lessonId);
+            }
+        }
+
+        for (Map.Entry<Lesson, int[]> entry : studentIdsOfLessons.entrySet()) {
+            Lesson lesson = entry.getKey();
+            for (int studentId : entry.getValue()) {
+                Person student = addressBook.getById(new UserId(studentId)).orElseThrow(() ->
+                        new IllegalValueException("Lesson references non-existent student ID: " + studentId));
+                addressBook.assign(student, lesson);
+            }
+        }
+
+        // Update static max ID tracker for future persons and lessons
+        addressBook.setInitialMaxUserId(maxUserId + 1);
+        addressBook.setInitialMaxLessonId(maxLessonId + 1);
+
+        return addressBook;
+    }
+}
@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Makes sure that every save made so far is on the hard disk.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flush() throws IOException {}
+
 }
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.lesson.Venue;
+import seedu.address.model.note.Note;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UserId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes an address book as a compact binary snapshot.
+ * <p>
+ * A snapshot starts with {@code MAGIC} and the format {@code VERSION}, followed by the persons and then the lessons,
+ * each list prefixed by its length. Ids are ints, and strings are an int byte length followed by their UTF-8 bytes.
+ * A person is its user id, name, phone, email, note and tags. A lesson is its lesson id, day, start time, end time,
+ * venue, note and the user ids of its students. Enrollments are only stored on the lesson side, as that is the side
+ * {@code AddressBookAssembler} links them from.
+ * <p>
+ * Snapshots are read into a heap buffer in one go, and the file is closed before decoding starts, so it can be
+ * replaced or deleted right after reading on every platform. Persons and lessons are built straight from the buffer,
+ * and the values read go through the same checks as when reading a json file.
+ */
+class BinaryAddressBookSnapshot {
+
+    static final int MAGIC = 0x54504142; // "TPAB"
+    static final int VERSION = 1;
+
+    private BinaryAddressBookSnapshot() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            List<Person> persons = addressBook.getPersonList();
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                out.writeInt(person.getUserId().value);
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getNote().value);
+                out.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    writeString(out, tag.tagName);
+                }
+            }
+
+            List<Lesson> lessons = addressBook.getLessonList();
+            out.writeInt(lessons.size());
+            for (Lesson lesson : lessons) {
+                out.writeInt(lesson.getLessonId().value);
+                writeString(out, lesson.getDay().toString());
+                writeString(out, lesson.getStartTime().toString());
+                writeString(out, lesson.getEndTime().toString());
+                writeString(out, lesson.getVenue().toString());
+                writeString(out, lesson.getNote().toString());
+                out.writeInt(lesson.getStudents().size());
+                for (Person student : lesson.getStudents()) {
+                    out.writeInt(student.getUserId().value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the address book saved in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, or is not a snapshot of a version this class can read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+        }
+        buffer.flip();
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(filePath + " is not an address book snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported address book snapshot version " + version + " in " + filePath);
+            }
+
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            int personCount = buffer.getInt();
+            for (int i = 0; i < personCount; i++) {
+                assembler.addPerson(readPerson(buffer));
+            }
+            int lessonCount = buffer.getInt();
+            for (int i = 0; i < lessonCount; i++) {
+                Lesson lesson = readLesson(buffer);
+                assembler.addLesson(lesson, readIds(buffer));
+            }
+            return assembler.assemble();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Address book snapshot " + filePath + " is truncated", e);
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer) throws IOException, IllegalValueException {
+        UserId userId = new UserId(buffer.getInt());
+        Name name = new Name(readValidString(buffer, Name::isValidName, Name.MESSAGE_CONSTRAINTS));
+        Phone phone = new Phone(readValidString(buffer, Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS));
+        Email email = new Email(readValidString(buffer, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS));
+        Note note = new Note(readString(buffer));
+        int tagCount = buffer.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readValidString(buffer, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS)));
+        }
+        return new Person(userId, name, phone, email, note, tags);
+    }
+
+    private static Lesson readLesson(ByteBuffer buffer) throws IOException, IllegalValueException {
+        LessonId lessonId = new LessonId(buffer.getInt());
+        Day day = Day.fromString(readValidString(buffer, Day::isValidDay, Day.MESSAGE_CONSTRAINTS));
+        Time startTime = Time.of(readValidString(buffer, Time::isValidTime, Time.MESSAGE_CONSTRAINTS));
+        Time endTime = Time.of(readValidString(buffer, Time::isValidTime, Time.MESSAGE_CONSTRAINTS));
+        Venue venue = new Venue(readString(buffer));
+        Note note = new Note(readString(buffer));
+        return new Lesson(lessonId, day, startTime, endTime, venue, note);
+    }
+
+    private static int[] readIds(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+            throw new IOException("Invalid id count " + count + " in address book snapshot");
+        }
+        int[] ids = new int[count];
+        buffer.asIntBuffer().get(ids);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return ids;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid string length " + length + " in address book snapshot");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string, and checks it with {@code isValid}.
+     *
+     * @throws IllegalValueException with {@code constraints} as its message if the string is not valid.
+     */
+    private static String readValidString(ByteBuffer buffer, Predicate<String> isValid, String constraints)
+            throws IOException, IllegalValueException {
+        String value = readString(buffer);
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(constraints);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is kept next to the json data file (e.g. {@code addressbook.json.bin}). While there is no snapshot,
+ * the json data file is read instead, so that existing data is carried over on the first save.
+ * Use {@link #convertToJson(Path)} to carry the data back to the json data file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    /**
+     * Creates a storage that keeps its snapshot next to the json data file at {@code jsonFilePath}.
+     */
+    public BinaryAddressBookStorage(Path jsonFilePath) {
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getSnapshotPath(jsonFilePath);
+    }
+
+    /**
+     * Returns the binary snapshot kept for the json data file at {@code jsonFilePath}.
+     */
+    public static Path getSnapshotPath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + ".bin");
+    }
+
+    /**
+     * Writes the binary snapshot kept for the json data file at {@code jsonFilePath}, if there is one, back into
+     * the json data file, and deletes the snapshot.
+     *
+     * @throws DataLoadingException if the snapshot could not be read.
+     * @throws IOException if the json data file could not be written, or the snapshot could not be deleted.
+     */
+    public static void convertToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        Path snapshot = getSnapshotPath(jsonFilePath);
+        if (!Files.exists(snapshot)) {
+            return;
+        }
+
+        logger.info("Converting " + snapshot + " back to " + jsonFilePath);
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(jsonFilePath).readAddressBook(snapshot).get();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+        Files.delete(snapshot);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (filePath.equals(this.filePath) && Files.exists(jsonFilePath)) {
+                logger.info("No binary snapshot found, converting " + jsonFilePath + " instead.");
+                return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+            }
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookSnapshot.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary snapshot " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, tempFile -> BinaryAddressBookSnapshot.write(addressBook, tempFile));
+    }
+
+}
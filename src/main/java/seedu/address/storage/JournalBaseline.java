@@ -0,0 +1,223 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
+
+/**
+ * The contents of an address book as last written by a {@code JournaledAddressBookStorage}, used to work out the
+ * journal records that bring the stored data up to date with a newer version of the address book.
+ * When the newer version keeps a {@code ChangeLog} that goes back to the version last written, only the persons and
+ * lessons it names are compared, so the cost of an update follows the size of the change. Otherwise every person
+ * and lesson is compared, which happens on the first save after the address book is read or replaced.
+ * Enrolments are changed in place, so the lessons of each person are copied when they are recorded.
+ */
+class JournalBaseline {
+
+    private final Map<UserId, PersonState> persons = new HashMap<>();
+    private final Map<LessonId, Lesson> lessons = new HashMap<>();
+    private ChangeLog changeLog;
+    private long modificationCount;
+
+    /**
+     * Creates a baseline holding the contents of {@code addressBook}.
+     */
+    JournalBaseline(ReadOnlyAddressBook addressBook) {
+        for (Lesson lesson : addressBook.getLessonList()) {
+            lessons.put(lesson.getLessonId(), lesson);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getUserId(), new PersonState(person));
+        }
+        changeLog = addressBook.getChangeLog().orElse(null);
+        modificationCount = addressBook.getModificationCount();
+    }
+
+    /**
+     * Returns the records that turn the contents of this baseline into those of {@code addressBook}, and makes
+     * {@code addressBook} the new baseline.
+     * Records come in an order that can be replayed one by one: lessons and persons are put before they are
+     * assigned, and unassigned before they are deleted.
+     */
+    List<JsonAdaptedJournalRecord> update(ReadOnlyAddressBook addressBook) {
+        Records records = new Records();
+        Optional<ChangeLog> newChangeLog = addressBook.getChangeLog();
+        if (newChangeLog.isPresent() && newChangeLog.get().hasSameOriginAs(changeLog)
+                && addressBook.getModificationCount() >= modificationCount) {
+            if (addressBook.getModificationCount() > modificationCount) {
+                compareChanged(addressBook, newChangeLog.get(), records);
+            }
+        } else {
+            compareAll(addressBook, records);
+        }
+        changeLog = newChangeLog.orElse(null);
+        modificationCount = addressBook.getModificationCount();
+        return records.toList();
+    }
+
+    /**
+     * Compares the persons and lessons that {@code changeLog} names as changed since this baseline was recorded.
+     */
+    private void compareChanged(ReadOnlyAddressBook addressBook, ChangeLog changeLog, Records records) {
+        for (LessonId lessonId : changeLog.getLessonsChangedAfter(modificationCount)) {
+            compareLesson(lessonId, addressBook.getById(lessonId).orElse(null), records);
+        }
+        for (UserId userId : changeLog.getPersonsChangedAfter(modificationCount)) {
+            comparePerson(userId, addressBook.getById(userId).orElse(null), records);
+        }
+    }
+
+    private void compareAll(ReadOnlyAddressBook addressBook, Records records) {
+        for (Lesson lesson : addressBook.getLessonList()) {
+            compareLesson(lesson.getLessonId(), lesson, records);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            comparePerson(person.getUserId(), person, records);
+        }
+
+        // entries are only added above, so any surplus was deleted from the address book
+        if (persons.size() > addressBook.getPersonList().size()) {
+            Set<UserId> userIds = new HashSet<>();
+            for (Person person : addressBook.getPersonList()) {
+                userIds.add(person.getUserId());
+            }
+            for (UserId userId : new ArrayList<>(persons.keySet())) {
+                if (!userIds.contains(userId)) {
+                    comparePerson(userId, null, records);
+                }
+            }
+        }
+        if (lessons.size() > addressBook.getLessonList().size()) {
+            Set<LessonId> lessonIds = new HashSet<>();
+            for (Lesson lesson : addressBook.getLessonList()) {
+                lessonIds.add(lesson.getLessonId());
+            }
+            for (LessonId lessonId : new ArrayList<>(lessons.keySet())) {
+                if (!lessonIds.contains(lessonId)) {
+                    compareLesson(lessonId, null, records);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records {@code lesson} as the lesson with {@code lessonId}, or that there is no such lesson if it is null.
+     */
+    private void compareLesson(LessonId lessonId, Lesson lesson, Records records) {
+        if (lesson == null) {
+            if (lessons.remove(lessonId) != null) {
+                records.deletes.add(JsonAdaptedJournalRecord.deleteLesson(lessonId));
+            }
+            return;
+        }
+
+        Lesson recorded = lessons.put(lessonId, lesson);
+        if (recorded != lesson && !lesson.equals(recorded)) {
+            records.puts.add(JsonAdaptedJournalRecord.putLesson(lesson));
+        }
+    }
+
+    /**
+     * Records {@code person} as the person with {@code userId}, or that there is no such person if it is null.
+     */
+    private void comparePerson(UserId userId, Person person, Records records) {
+        if (person == null) {
+            if (persons.remove(userId) != null) {
+                records.deletes.add(JsonAdaptedJournalRecord.deletePerson(userId));
+            }
+            return;
+        }
+
+        PersonState recorded = persons.get(userId);
+        if (recorded == null) {
+            recorded = new PersonState(person);
+            persons.put(userId, recorded);
+            records.puts.add(JsonAdaptedJournalRecord.putPerson(person));
+            for (LessonId lessonId : recorded.lessonIds) {
+                records.assigns.add(JsonAdaptedJournalRecord.assign(userId, lessonId));
+            }
+            return;
+        }
+
+        if (recorded.person != person && !recorded.person.equals(person)) {
+            records.puts.add(JsonAdaptedJournalRecord.putPerson(person));
+        }
+        recorded.person = person;
+        if (!recorded.hasSameLessonsAs(person)) {
+            Set<LessonId> lessonIds = lessonIdsOf(person);
+            for (LessonId lessonId : recorded.lessonIds) {
+                if (!lessonIds.contains(lessonId)) {
+                    records.unassigns.add(JsonAdaptedJournalRecord.unassign(userId, lessonId));
+                }
+            }
+            for (LessonId lessonId : lessonIds) {
+                if (!recorded.lessonIds.contains(lessonId)) {
+                    records.assigns.add(JsonAdaptedJournalRecord.assign(userId, lessonId));
+                }
+            }
+            recorded.lessonIds = lessonIds;
+        }
+    }
+
+    private static Set<LessonId> lessonIdsOf(Person person) {
+        Set<LessonId> lessonIds = new HashSet<>();
+        for (Lesson lesson : person.getLessons()) {
+            lessonIds.add(lesson.getLessonId());
+        }
+        return lessonIds;
+    }
+
+    /**
+     * The records of one update, kept apart by kind so that they can be put in an order that can be replayed.
+     */
+    private static class Records {
+        private final List<JsonAdaptedJournalRecord> puts = new ArrayList<>();
+        private final List<JsonAdaptedJournalRecord> unassigns = new ArrayList<>();
+        private final List<JsonAdaptedJournalRecord> assigns = new ArrayList<>();
+        private final List<JsonAdaptedJournalRecord> deletes = new ArrayList<>();
+
+        List<JsonAdaptedJournalRecord> toList() {
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>(puts);
+            records.addAll(unassigns);
+            records.addAll(assigns);
+            records.addAll(deletes);
+            return records;
+        }
+    }
+
+    /**
+     * A person as last written, together with the lessons it was enrolled in at the time.
+     */
+    private static class PersonState {
+        private Person person;
+        private Set<LessonId> lessonIds;
+
+        PersonState(Person person) {
+            this.person = person;
+            this.lessonIds = lessonIdsOf(person);
+        }
+
+        boolean hasSameLessonsAs(Person person) {
+            if (person.getLessons().size() != lessonIds.size()) {
+                return false;
+            }
+            for (Lesson lesson : person.getLessons()) {
+                if (!lessonIds.contains(lesson.getLessonId())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.UserId;
+
+/**
+ * The contents of an address book, in Jackson-friendly form, as it is rebuilt by replaying a journal over a snapshot.
+ * Persons and lessons keep the order they were first added in, as they would in the address book itself.
+ * Changes that refer to a person or lesson that is not there are ignored, so that replaying a journal whose changes
+ * are already in the snapshot leaves the contents as they are.
+ */
+class JournalReplayState {
+
+    private final Map<Integer, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+    private final Map<Integer, JsonAdaptedLesson> lessons = new LinkedHashMap<>();
+    private final Map<Integer, Set<Integer>> personToLessons = new HashMap<>();
+    private final Map<Integer, Set<Integer>> lessonToStudents = new HashMap<>();
+
+    /**
+     * Creates a state holding the contents of {@code snapshot}.
+     *
+     * @throws IllegalValueException if a person or lesson in {@code snapshot} has no id, or shares its id.
+     */
+    JournalReplayState(JsonSerializableAddressBook snapshot) throws IllegalValueException {
+        for (JsonAdaptedPerson person : snapshot.getPersons()) {
+            int userId = requireUserId(person);
+            if (persons.containsKey(userId)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.put(userId, person);
+            personToLessons.put(userId, new LinkedHashSet<>(person.getLessonIds()));
+        }
+        for (JsonAdaptedLesson lesson : snapshot.getLessons()) {
+            int lessonId = requireLessonId(lesson);
+            if (lessons.containsKey(lessonId)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+            }
+            lessons.put(lessonId, lesson);
+            lessonToStudents.put(lessonId, new LinkedHashSet<>(lesson.getStudentIds()));
+        }
+    }
+
+    /**
+     * Adds {@code person}, or replaces the person with the same id while keeping its enrolments.
+     */
+    void putPerson(JsonAdaptedPerson person) throws IllegalValueException {
+        int userId = requireUserId(person);
+        persons.put(userId, person);
+        personToLessons.putIfAbsent(userId, new LinkedHashSet<>());
+    }
+
+    /**
+     * Removes the person with {@code userId} and its enrolments, if there is one.
+     */
+    void deletePerson(int userId) {
+        persons.remove(userId);
+        Set<Integer> lessonIds = personToLessons.remove(userId);
+        if (lessonIds == null) {
+            return;
+        }
+        for (int lessonId : lessonIds) {
+            Set<Integer> studentIds = lessonToStudents.get(lessonId);
+            if (studentIds != null) {
+                studentIds.remove(userId);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code lesson}, or replaces the lesson with the same id while keeping its students.
+     */
+    void putLesson(JsonAdaptedLesson lesson) throws IllegalValueException {
+        int lessonId = requireLessonId(lesson);
+        lessons.put(lessonId, lesson);
+        lessonToStudents.putIfAbsent(lessonId, new LinkedHashSet<>());
+    }
+
+    /**
+     * Removes the lesson with {@code lessonId} and its enrolments, if there is one.
+     */
+    void deleteLesson(int lessonId) {
+        lessons.remove(lessonId);
+        Set<Integer> studentIds = lessonToStudents.remove(lessonId);
+        if (studentIds == null) {
+            return;
+        }
+        for (int userId : studentIds) {
+            Set<Integer> lessonIds = personToLessons.get(userId);
+            if (lessonIds != null) {
+                lessonIds.remove(lessonId);
+            }
+        }
+    }
+
+    /**
+     * Enrols the person with {@code userId} in the lesson with {@code lessonId}, if both are there.
+     */
+    void assign(int userId, int lessonId) {
+        if (!persons.containsKey(userId) || !lessons.containsKey(lessonId)) {
+            return;
+        }
+        personToLessons.get(userId).add(lessonId);
+        lessonToStudents.get(lessonId).add(userId);
+    }
+
+    /**
+     * Removes the person with {@code userId} from the lesson with {@code lessonId}, if both are there.
+     */
+    void unassign(int userId, int lessonId) {
+        if (!persons.containsKey(userId) || !lessons.containsKey(lessonId)) {
+            return;
+        }
+        personToLessons.get(userId).remove(lessonId);
+        lessonToStudents.get(lessonId).remove(userId);
+    }
+
+    /**
+     * Returns the current contents as a {@code JsonSerializableAddressBook}.
+     */
+    JsonSerializableAddressBook toSerializable() {
+        List<JsonAdaptedPerson> personList = new ArrayList<>(persons.size());
+        for (Map.Entry<Integer, JsonAdaptedPerson> entry : persons.entrySet()) {
+            personList.add(entry.getValue().withLessonIds(new ArrayList<>(personToLessons.get(entry.getKey()))));
+        }
+        List<JsonAdaptedLesson> lessonList = new ArrayList<>(lessons.size());
+        for (Map.Entry<Integer, JsonAdaptedLesson> entry : lessons.entrySet()) {
+            lessonList.add(entry.getValue().withStudentIds(new ArrayList<>(lessonToStudents.get(entry.getKey()))));
+        }
+        return new JsonSerializableAddressBook(personList, lessonList);
+    }
+
+    private static int requireUserId(JsonAdaptedPerson person) throws IllegalValueException {
+        if (person.getUserId() == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    UserId.class.getSimpleName()));
+        }
+        return person.getUserId();
+    }
+
+    private static int requireLessonId(JsonAdaptedLesson lesson) throws IllegalValueException {
+        if (lesson.getLessonId() == null) {
+            throw new IllegalValueException("Lesson ID cannot be null");
+        }
+        return lesson.getLessonId();
+    }
+}
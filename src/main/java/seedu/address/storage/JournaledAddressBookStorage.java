@@ -0,0 +1,338 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.GroupCommitFileWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot, plus a journal of the changes made
+ * since the snapshot was written.
+ *
+ * Saving works out which persons, lessons and enrolments changed since the last save from the change log of the
+ * address book, and appends one line per change to the journal, so the cost of a save follows the size of the change
+ * rather than the size of the address book. Appends go through a {@code GroupCommitFileWriter}, so appends that
+ * follow each other closely share one disk flush.
+ * Once the journal holds enough records or bytes, it is set aside and a new snapshot is written in the background,
+ * after which the set-aside journal is deleted. Reading replays the snapshot, then any set-aside journal, then the
+ * journal. Replaying changes that the snapshot already contains leaves it as it is, so a crash at any point of a
+ * compaction loses nothing.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+    private final GroupCommitFileWriter fileWriter;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private JournalBaseline baseline;
+    private int journalRecords;
+    private long journalBytes;
+    private boolean hasSetAsideJournal;
+    private Future<?> compaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_RECORDS, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a storage for {@code filePath} that compacts its journal once it holds {@code maxJournalRecords}
+     * records or {@code maxJournalBytes} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalRecords, long maxJournalBytes) {
+        this(filePath, maxJournalRecords, maxJournalBytes, 0);
+    }
+
+    /**
+     * Creates a storage for {@code filePath} that compacts its journal once it holds {@code maxJournalRecords}
+     * records or {@code maxJournalBytes} bytes. Appends to the journal within {@code groupCommitMillis} milliseconds
+     * of each other share one disk flush, and every append is flushed straight away if it is 0.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalRecords, long maxJournalBytes,
+            long groupCommitMillis) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
+        this.fileWriter = new GroupCommitFileWriter(groupCommitMillis);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the journal kept next to the snapshot at {@code filePath}.
+     */
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Returns the journal that is set aside while the snapshot at {@code filePath} is being compacted.
+     */
+    static Path getSetAsideJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal.1");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        waitForCompaction();
+
+        Path journal = getJournalPath(filePath);
+        Path setAsideJournal = getSetAsideJournalPath(filePath);
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!snapshot.isPresent() && !Files.exists(journal) && !Files.exists(setAsideJournal)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook;
+        int recordsInJournal;
+        try {
+            JournalReplayState state = new JournalReplayState(snapshot.orElseGet(() ->
+                    new JsonSerializableAddressBook(Collections.emptyList(), Collections.emptyList())));
+            replay(setAsideJournal, state);
+            recordsInJournal = replay(journal, state);
+            addressBook = state.toSerializable().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the journal of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            baseline = new JournalBaseline(addressBook);
+            journalRecords = recordsInJournal;
+            journalBytes = Files.exists(journal) ? sizeOf(journal) : 0;
+            hasSetAsideJournal = Files.exists(setAsideJournal);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the file this storage was created for are journaled; other files are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeFullSnapshot(new JsonSerializableAddressBook(addressBook), filePath);
+            return;
+        }
+
+        if (baseline == null) {
+            // nothing has been read or written yet, so there is nothing to diff against
+            waitForCompaction();
+            writeFullSnapshot(new JsonSerializableAddressBook(addressBook), filePath);
+            baseline = new JournalBaseline(addressBook);
+            journalRecords = 0;
+            journalBytes = 0;
+            hasSetAsideJournal = false;
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = baseline.update(addressBook);
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            append(records);
+        } catch (IOException ioe) {
+            // the baseline already holds the changes that failed to be written, so start over with a full snapshot
+            baseline = null;
+            throw ioe;
+        }
+
+        if (journalRecords >= maxJournalRecords || journalBytes >= maxJournalBytes || hasSetAsideJournal) {
+            compact(addressBook);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        fileWriter.flush();
+    }
+
+    /**
+     * Blocks until any compaction in progress has finished.
+     */
+    void waitForCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // failures are logged by the compaction itself
+        }
+    }
+
+    private void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        fileWriter.append(getJournalPath(filePath), bytes);
+        journalRecords += records.size();
+        journalBytes += bytes.length;
+    }
+
+    /**
+     * Sets the journal aside and writes a snapshot of {@code addressBook} in the background, unless a compaction is
+     * already in progress.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+
+        // taken here, so that changes made to the address book while the snapshot is written do not end up in it
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        setJournalAside();
+        journalRecords = 0;
+        journalBytes = 0;
+
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(snapshot, filePath);
+                Files.deleteIfExists(getSetAsideJournalPath(filePath));
+                logger.fine("Compacted the journal of " + filePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact the journal of " + filePath
+                        + ", it will be replayed on the next start: " + ioe);
+            }
+        });
+        hasSetAsideJournal = false;
+    }
+
+    /**
+     * Moves the journal to the set-aside journal, adding to what is already set aside after a failed compaction.
+     */
+    private void setJournalAside() throws IOException {
+        Path journal = getJournalPath(filePath);
+        Path setAsideJournal = getSetAsideJournalPath(filePath);
+        // the records set aside must be on disk before the journal they came from is gone
+        fileWriter.flush();
+        if (!Files.exists(setAsideJournal)) {
+            Files.move(journal, setAsideJournal);
+            return;
+        }
+        fileWriter.append(setAsideJournal, Files.readAllBytes(journal));
+        fileWriter.flush();
+        Files.delete(journal);
+    }
+
+    /**
+     * Writes {@code snapshot} to {@code filePath} and deletes the journals next to it, which it supersedes.
+     */
+    private static void writeFullSnapshot(JsonSerializableAddressBook snapshot, Path filePath) throws IOException {
+        // the journals go first, so that they can never be replayed over a snapshot they do not belong to
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getSetAsideJournalPath(filePath));
+        writeSnapshot(snapshot, filePath);
+    }
+
+    /**
+     * Writes {@code snapshot} to {@code filePath} without ever leaving a partly written file there.
+     */
+    private static void writeSnapshot(JsonSerializableAddressBook snapshot, Path filePath) throws IOException {
+        JsonUtil.saveJsonFile(snapshot, filePath);
+    }
+
+    /**
+     * Applies every record in {@code journal} to {@code state}, and returns how many there were.
+     * A last line that cannot be read is taken to be a record that was cut short, and is cut from the journal, so
+     * that the records appended after it can be read.
+     */
+    private static int replay(Path journal, JournalReplayState state) throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        int records = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last record in " + journal);
+                    Files.write(journal, lines.subList(0, i), StandardCharsets.UTF_8);
+                    break;
+                }
+                throw ioe;
+            }
+            record.applyTo(state);
+            records++;
+        }
+        return records;
+    }
+
+    private static long sizeOf(Path file) throws DataLoadingException {
+        try {
+            return Files.size(file);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+}
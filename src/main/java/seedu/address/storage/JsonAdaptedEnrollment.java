@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * Jackson-friendly version of the students enrolled in a {@link Lesson}.
+ */
+class JsonAdaptedEnrollment {
+
+    private final Integer lessonId;
+    private final List<Integer> studentIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedEnrollment} with the given lesson id and student ids.
+     */
+    @JsonCreator
+    public JsonAdaptedEnrollment(@JsonProperty("lessonId") Integer lessonId,
+                                 @JsonProperty("studentIds") List<Integer> studentIds) {
+        this.lessonId = lessonId;
+        if (studentIds != null) {
+            this.studentIds.addAll(studentIds);
+        }
+    }
+
+    /**
+     * Converts the students of a given {@code Lesson} into this class for Jackson use.
+     */
+    public JsonAdaptedEnrollment(Lesson source) {
+        lessonId = source.getLessonId().value;
+        studentIds.addAll(source.getStudents().stream()
+                .map(s -> s.getUserId().value)
+                .collect(Collectors.toList()));
+    }
+
+    Integer getLessonId() {
+        return lessonId;
+    }
+
+    List<Integer> getStudentIds() {
+        return Collections.unmodifiableList(studentIds);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
+
+/**
+ * Jackson-friendly version of one change to an address book, as written to the journal of a
+ * {@code JournaledAddressBookStorage}.
+ * A person or lesson is always written without its enrolments, which are written as separate {@code ASSIGN} and
+ * {@code UNASSIGN} records instead.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Type {
+        PUT_PERSON, DELETE_PERSON, PUT_LESSON, DELETE_LESSON, ASSIGN, UNASSIGN
+    }
+
+    private final Type type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedLesson lesson;
+    private final Integer userId;
+    private final Integer lessonId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("lesson") JsonAdaptedLesson lesson,
+                                    @JsonProperty("userId") Integer userId,
+                                    @JsonProperty("lessonId") Integer lessonId) {
+        this.type = type;
+        this.person = person;
+        this.lesson = lesson;
+        this.userId = userId;
+        this.lessonId = lessonId;
+    }
+
+    /**
+     * Returns a record that adds {@code person}, or replaces the person with the same id.
+     */
+    static JsonAdaptedJournalRecord putPerson(Person person) {
+        JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(person).withLessonIds(Collections.emptyList());
+        return new JsonAdaptedJournalRecord(Type.PUT_PERSON, adaptedPerson, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord deletePerson(UserId userId) {
+        return new JsonAdaptedJournalRecord(Type.DELETE_PERSON, null, null, userId.value, null);
+    }
+
+    /**
+     * Returns a record that adds {@code lesson}, or replaces the lesson with the same id.
+     */
+    static JsonAdaptedJournalRecord putLesson(Lesson lesson) {
+        JsonAdaptedLesson adaptedLesson = new JsonAdaptedLesson(lesson).withStudentIds(Collections.emptyList());
+        return new JsonAdaptedJournalRecord(Type.PUT_LESSON, null, adaptedLesson, null, null);
+    }
+
+    static JsonAdaptedJournalRecord deleteLesson(LessonId lessonId) {
+        return new JsonAdaptedJournalRecord(Type.DELETE_LESSON, null, null, null, lessonId.value);
+    }
+
+    static JsonAdaptedJournalRecord assign(UserId userId, LessonId lessonId) {
+        return new JsonAdaptedJournalRecord(Type.ASSIGN, null, null, userId.value, lessonId.value);
+    }
+
+    static JsonAdaptedJournalRecord unassign(UserId userId, LessonId lessonId) {
+        return new JsonAdaptedJournalRecord(Type.UNASSIGN, null, null, userId.value, lessonId.value);
+    }
+
+    /**
+     * Applies this record to {@code state}.
+     *
+     * @throws IllegalValueException if a field this record needs is missing.
+     */
+    void applyTo(JournalReplayState state) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case PUT_PERSON:
+            state.putPerson(require(person, "person"));
+            break;
+        case DELETE_PERSON:
+            state.deletePerson(require(userId, "userId"));
+            break;
+        case PUT_LESSON:
+            state.putLesson(require(lesson, "lesson"));
+            break;
+        case DELETE_LESSON:
+            state.deleteLesson(require(lessonId, "lessonId"));
+            break;
+        case ASSIGN:
+            state.assign(require(userId, "userId"), require(lessonId, "lessonId"));
+            break;
+        case UNASSIGN:
+            state.unassign(require(userId, "userId"), require(lessonId, "lessonId"));
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal record type: " + type);
+        }
+    }
+
+    private static <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
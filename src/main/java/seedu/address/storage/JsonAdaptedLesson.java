@@ -1,8 +1,8 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -15,8 +15,6 @@ import seedu.address.model.lesson.LessonId;
 import seedu.address.model.lesson.Time;
 import seedu.address.model.lesson.Venue;
 import seedu.address.model.note.Note;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.UserId;
 
 /**
  * Jackson-friendly version of {@link Lesson}.
@@ -68,22 +66,49 @@ class JsonAdaptedLesson {
                 .collect(Collectors.toList()));
     }
 
+    Integer getLessonId() {
+        return lessonId;
+    }
+
+    List<Integer> getStudentIds() {
+        return Collections.unmodifiableList(studentIds);
+    }
+
+    /**
+     * Returns a copy of this adapted lesson that has {@code studentIds} as its students instead.
+     */
+    JsonAdaptedLesson withStudentIds(List<Integer> studentIds) {
+        return new JsonAdaptedLesson(lessonId, day, startTime, endTime, venue, note, studentIds);
+    }
+
     /**
      * Converts this Jackson-friendly adapted Lesson object into the model's {@code Lesson} object.
+     * The lesson has no students yet, as {@code AddressBookAssembler} links persons and lessons once both have been
+     * converted.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
      */
     public Lesson toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but does not check the start and end times against their constraints
+     * before parsing them if {@code isTrusted} is true. Missing fields are still reported.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
+     */
+    Lesson toModelType(boolean isTrusted) throws IllegalValueException {
         if (lessonId == null) {
             throw new IllegalValueException("Lesson ID cannot be null");
         }
         if (day == null || !Day.isValidDay(day)) {
             throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
         }
-        if (startTime == null || !Time.isValidTime(startTime)) {
+        if (startTime == null || !isTrusted && !Time.isValidTime(startTime)) {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
-        if (endTime == null || !Time.isValidTime(endTime)) {
+        if (endTime == null || !isTrusted && !Time.isValidTime(endTime)) {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
         if (venue == null) {
@@ -100,18 +125,12 @@ class JsonAdaptedLesson {
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
         }
-        final Time modelStartTime = new Time(startTime);
-        final Time modelEndTime = new Time(endTime);
+        final Time modelStartTime = isTrusted ? Time.fromTrusted(startTime) : Time.of(startTime);
+        final Time modelEndTime = isTrusted ? Time.fromTrusted(endTime) : Time.of(endTime);
         final Venue modelVenue = new Venue(venue);
         final Note modelNote = new Note(note);
 
-        // This is done as a workaround to the circular references between Person and Lesson
-        // The placeholder persons will be overriden on initialization
-        final Set<Person> modelPersons = studentIds.stream()
-                .map(id -> Person.getPlaceholderPerson(new UserId(id)))
-                .collect(Collectors.toSet());
-
-        return new Lesson(modelLessonId, modelDay, modelStartTime, modelEndTime, modelVenue, modelNote, modelPersons);
+        return new Lesson(modelLessonId, modelDay, modelStartTime, modelEndTime, modelVenue, modelNote);
     }
 
 }
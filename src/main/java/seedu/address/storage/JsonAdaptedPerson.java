@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -10,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.lesson.Lesson;
-import seedu.address.model.lesson.LessonId;
 import seedu.address.model.note.Note;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -73,15 +72,42 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    Integer getUserId() {
+        return userId;
+    }
+
+    List<Integer> getLessonIds() {
+        return Collections.unmodifiableList(lessonIds);
+    }
+
+    /**
+     * Returns a copy of this adapted person that is enrolled in {@code lessonIds} instead.
+     */
+    JsonAdaptedPerson withLessonIds(List<Integer> lessonIds) {
+        return new JsonAdaptedPerson(userId, name, phone, email, note, lessonIds, tags);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The person is not enrolled in any lessons yet, as {@code AddressBookAssembler} links persons and lessons once
+     * both have been converted.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but does not check the name, phone, email and tags against their
+     * constraints if {@code isTrusted} is true. Missing fields are still reported.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toModelType(boolean isTrusted) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(tag.toModelType(isTrusted));
         }
 
         if (userId == null) {
@@ -92,39 +118,34 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = isTrusted ? Name.fromTrusted(name) : new Name(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = isTrusted ? Phone.fromTrusted(phone) : new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
+        if (!isTrusted && !Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = isTrusted ? Email.fromTrusted(email) : new Email(email);
 
         if (note == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()));
         }
         final Note modelNote = new Note(note);
 
-        // This is done as a workaround to the circular references between Person and Lesson
-        // The placeholder lessons will be overriden on initialization
-        final Set<Lesson> modelLessons = lessonIds.stream().map(id -> Lesson.getPlaceholderLesson(new LessonId(id)))
-                .collect(Collectors.toSet());
-
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelUserId, modelName, modelPhone, modelEmail, modelNote, modelLessons, modelTags);
+        return new Person(modelUserId, modelName, modelPhone, modelEmail, modelNote, modelTags);
     }
 
 }
@@ -39,6 +39,19 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but does not check the tag name against its constraints if
+     * {@code isTrusted} is true.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     */
+    Tag toModelType(boolean isTrusted) throws IllegalValueException {
+        if (isTrusted) {
+            return Tag.fromTrusted(tagName);
+        }
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book saved in the format of {@code JsonSerializableAddressBook} straight into the model.
+ * The file is read token by token, and each person or lesson is turned into a model object as soon as it has been
+ * read, so neither the file contents nor the list of adapted persons and lessons are ever held in memory as a whole.
+ * Fields other than {@code persons} and {@code lessons} are skipped, as they are when reading with Jackson.
+ * When reading in parallel, persons and lessons are instead handed over in batches of {@code PARALLEL_BATCH_SIZE},
+ * so that each batch can be converted concurrently while memory use stays bounded.
+ */
+class JsonAddressBookReader {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String LESSONS_FIELD = "lessons";
+    private static final int PARALLEL_BATCH_SIZE = 4096;
+
+    private JsonAddressBookReader() {} // prevents instantiation
+
+    /**
+     * Returns the address book saved in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, false);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but converts the persons and lessons concurrently if {@code isParallel} is
+     * true. Any error reported is the same as with {@link #read(Path)}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath, boolean isParallel) throws IOException, IllegalValueException {
+        return read(filePath, isParallel, false);
+    }
+
+    /**
+     * Similar to {@link #read(Path, boolean)}, but does not check the fields of the persons and lessons against their
+     * constraints if {@code isTrusted} is true, for files known to have been written by this app.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath, boolean isParallel, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return read(in, isParallel, isTrusted);
+        }
+    }
+
+    /**
+     * Similar to {@link #read(Path, boolean, boolean)}, but reads from {@code in}, which is left open. Whatever
+     * follows the address book in {@code in} may or may not have been read.
+     *
+     * @throws IOException if {@code in} cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in, boolean isParallel, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        int batchSize = isParallel ? PARALLEL_BATCH_SIZE : 1;
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            AddressBookAssembler assembler = new AddressBookAssembler(isParallel, isTrusted);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    List<JsonAdaptedPerson> batch = new ArrayList<>(batchSize);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        batch.add(readElement(parser, JsonAdaptedPerson.class));
+                        if (batch.size() == batchSize) {
+                            assembler.addPersons(batch);
+                            batch.clear();
+                        }
+                    }
+                    assembler.addPersons(batch);
+                } else if (LESSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    List<JsonAdaptedLesson> batch = new ArrayList<>(batchSize);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        batch.add(readElement(parser, JsonAdaptedLesson.class));
+                        if (batch.size() == batchSize) {
+                            assembler.addLessons(batch);
+                            batch.clear();
+                        }
+                    }
+                    assembler.addLessons(batch);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return assembler.assemble();
+        }
+    }
+
+    private static <T> T readElement(JsonParser parser, Class<T> elementClass) throws IOException {
+        if (parser.getCurrentToken() == null) {
+            throw new JsonParseException(parser, "Unexpected end of file");
+        }
+        T element = JsonUtil.fromJsonParser(parser, elementClass);
+        if (element == null) {
+            throw new JsonParseException(parser, "Unexpected null " + elementClass.getSimpleName());
+        }
+        return element;
+    }
+}
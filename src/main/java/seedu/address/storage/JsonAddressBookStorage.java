@@ -3,7 +3,13 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,20 +17,42 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.GroupCommitFileWriter;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * Each save also writes a {@link JsonValidationStamp} next to the file. When the file is read back unchanged, its
+ * fields are known to be valid and are not checked against their constraints again. The file is hashed while it is
+ * read, so an unchanged file is read only once. Any other file is read again and checked in full.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isParallelLoad;
+    private final GroupCommitFileWriter fileWriter;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, false, 0);
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath}, which is saved on a single line if {@code isCompact}
+     * is true, and indented otherwise. The persons and lessons in the file are converted concurrently when loading
+     * if {@code isParallelLoad} is true. Saves within {@code groupCommitMillis} milliseconds of each other share one
+     * disk flush, and every save is flushed straight away if it is 0.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isParallelLoad, long groupCommitMillis) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isParallelLoad = isParallelLoad;
+        this.fileWriter = new GroupCommitFileWriter(groupCommitMillis);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +73,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            AddressBook addressBook = readIfStamped(filePath).orElse(null);
+            if (addressBook == null) {
+                addressBook = JsonAddressBookReader.read(filePath, isParallelLoad, false);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +107,54 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        MessageDigest digest = JsonValidationStamp.newDigest();
+        fileWriter.write(filePath, tempFile -> JsonAddressBookWriter.write(addressBook,
+                new DigestOutputStream(Files.newOutputStream(tempFile), digest), isCompact));
+        // a crash between the two commits leaves a stamp that does not match, which only costs a full check
+        String stamp = JsonUtil.toJsonString(new JsonValidationStamp(digest.digest()));
+        fileWriter.write(JsonValidationStamp.getStampPath(filePath), tempFile -> FileUtil.writeToFile(tempFile, stamp));
+    }
+
+    /**
+     * Returns the address book in {@code filePath} if the stamp next to it shows that the file is unchanged since it
+     * was saved, without checking its fields. The file is hashed as it is read, so it is only read once, unless it
+     * turns out not to match its stamp.
+     */
+    private Optional<AddressBook> readIfStamped(Path filePath) {
+        Path stampPath = JsonValidationStamp.getStampPath(filePath);
+        Optional<JsonValidationStamp> stamp;
+        try {
+            stamp = JsonUtil.readJsonFile(stampPath, JsonValidationStamp.class);
+        } catch (DataLoadingException e) {
+            logger.info("Ignoring unreadable stamp " + stampPath + ": " + e.getMessage());
+            return Optional.empty();
+        }
+        if (!stamp.isPresent() || !stamp.get().isUnderCurrentConstraints()) {
+            return Optional.empty();
+        }
+
+        MessageDigest digest = JsonValidationStamp.newDigest();
+        AddressBook addressBook;
+        try (InputStream in = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+            addressBook = JsonAddressBookReader.read(in, isParallelLoad, true);
+            // the rest of the file counts towards the digest too
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            // a file that matches its stamp reads without errors, so this one is read again with its fields checked
+            logger.info("Reading " + filePath + " in full, as it does not read like the file stamped: " + e);
+            return Optional.empty();
+        }
+
+        if (!stamp.get().isValidFor(digest.digest())) {
+            logger.info("Reading " + filePath + " in full, as it changed since it was stamped");
+            return Optional.empty();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        fileWriter.flush();
     }
 
 }
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAddressBookReader.LESSONS_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.PERSONS_FIELD;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book in the format of {@code JsonSerializableAddressBook} straight from the model.
+ * Each person or lesson is converted and written to the file on its own, so neither the list of adapted persons and
+ * lessons nor the whole JSON document is ever held in memory.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     * The file is written on a single line if {@code isCompact} is true, and indented otherwise.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, Files.newOutputStream(filePath), isCompact);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, Path, boolean)}, but writes to {@code out}, which is closed
+     * afterwards.
+     *
+     * @throws IOException if there was an error writing to the stream.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, !isCompact)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.toJsonGenerator(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(LESSONS_FIELD);
+            for (Lesson lesson : addressBook.getLessonList()) {
+                JsonUtil.toJsonGenerator(generator, new JsonAdaptedLesson(lesson));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of which segment files make up the address book saved by
+ * {@code SegmentedAddressBookStorage}. Each save that changes a segment bumps the generation, and the new segment
+ * files are named after it, so that they never overwrite a file the current manifest refers to.
+ */
+class JsonSegmentManifest {
+
+    private final int generation;
+    private final Map<String, String> segments = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} of the given generation, with the given segment file names.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("generation") int generation,
+                               @JsonProperty("segments") Map<String, String> segments) {
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.putAll(segments);
+        }
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the file holding the segment called {@code segmentName}, if there is one.
+     */
+    Optional<String> getFileName(String segmentName) {
+        return Optional.ofNullable(segments.get(segmentName));
+    }
+
+    Map<String, String> getSegments() {
+        return Collections.unmodifiableMap(segments);
+    }
+}
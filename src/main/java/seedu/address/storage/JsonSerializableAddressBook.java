@@ -1,10 +1,8 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -14,10 +12,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.lesson.Lesson;
-import seedu.address.model.lesson.LessonId;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.UserId;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -55,71 +49,33 @@ class JsonSerializableAddressBook {
         lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    List<JsonAdaptedLesson> getLessons() {
+        return Collections.unmodifiableList(lessons);
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        HashMap<UserId, Person> idToPerson = new HashMap<>();
-        HashMap<LessonId, Lesson> idToLesson = new HashMap<>();
-
-        int maxUserId = -1;
-        int maxLessonId = -1;
-
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            // Track the largest existing user ID
-            maxUserId = Math.max(maxUserId, person.getUserId().value);
-            addressBook.addPerson(person);
-            idToPerson.put(person.getUserId(), person);
-        }
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
-            if (addressBook.hasLesson(lesson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
-            }
-            // Track the largest existing lesson ID
-            maxLessonId = Math.max(maxLessonId, lesson.getLessonId().value);
-            addressBook.addLesson(lesson);
-            idToLesson.put(lesson.getLessonId(), lesson);
-        }
-
-        // Update the placeholder Person and Lesson objects with the actual ones
-        for (Person person : addressBook.getPersonList()) {
-            Set<Lesson> placeholderLessons = new HashSet<>(person.getLessons());
-
-            for (Lesson placeholderLesson : placeholderLessons) {
-                Lesson actualLesson = idToLesson.get(placeholderLesson.getLessonId());
-                if (actualLesson == null) {
-                    throw new IllegalValueException("Person references non-existent lesson ID: "
-                            + placeholderLesson.getLessonId().value);
-                }
-                person.replaceLesson(placeholderLesson, actualLesson);
-            }
-        }
-
-        for (Lesson lesson : addressBook.getLessonList()) {
-            Set<Person> placeholderStudents = new HashSet<>(lesson.getStudents());
-
-            for (Person placeholderStudent : placeholderStudents) {
-                Person actualPerson = idToPerson.get(placeholderStudent.getUserId());
-                if (actualPerson == null) {
-                    throw new IllegalValueException("Lesson references non-existent student ID: "
-                            + placeholderStudent.getUserId().value);
-                }
-                lesson.replaceStudent(placeholderStudent, actualPerson);
-            }
-        }
-
-        // Update static max ID tracker for future persons and lessons
-        addressBook.setInitialMaxUserId(maxUserId + 1);
-        addressBook.setInitialMaxLessonId(maxLessonId + 1);
+        return toModelType(false);
+    }
 
-        return addressBook;
+    /**
+     * Similar to {@link #toModelType()}, but converts the persons and lessons concurrently if {@code isParallel} is
+     * true. Any error reported is the same as with {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(boolean isParallel) throws IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler(isParallel);
+        assembler.addPersons(persons);
+        assembler.addLessons(lessons);
+        return assembler.assemble();
     }
 }
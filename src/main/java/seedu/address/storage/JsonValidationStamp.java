@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record that a json data file was written by {@code JsonAddressBookStorage}, and so holds only
+ * valid data. It keeps the SHA-256 digest of the file, and the version of the constraints its fields were valid
+ * under, in a file next to the data file (e.g. {@code addressbook.json.stamp}).
+ */
+class JsonValidationStamp {
+
+    /**
+     * The version of the constraints on the saved fields. Bump it whenever they change, so that files stamped under
+     * the old constraints are checked in full again.
+     */
+    static final int VALIDATION_VERSION = 1;
+
+    private final String digest;
+    private final int validationVersion;
+
+    /**
+     * Constructs a {@code JsonValidationStamp} with the given hex digest and validation version.
+     */
+    @JsonCreator
+    public JsonValidationStamp(@JsonProperty("digest") String digest,
+                               @JsonProperty("validationVersion") int validationVersion) {
+        this.digest = digest;
+        this.validationVersion = validationVersion;
+    }
+
+    /**
+     * Constructs a {@code JsonValidationStamp} for a file with the given digest, under the current constraints.
+     */
+    public JsonValidationStamp(byte[] digest) {
+        this(HexFormat.of().formatHex(digest), VALIDATION_VERSION);
+    }
+
+    /**
+     * Returns the stamp file of the json data file at {@code filePath}.
+     */
+    static Path getStampPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".stamp");
+    }
+
+    /**
+     * Returns true if this stamp was made under the current constraints.
+     */
+    boolean isUnderCurrentConstraints() {
+        return validationVersion == VALIDATION_VERSION;
+    }
+
+    /**
+     * Returns true if this stamp was made under the current constraints, for a file with the given digest.
+     */
+    boolean isValidFor(byte[] digest) {
+        return isUnderCurrentConstraints() && HexFormat.of().formatHex(digest).equals(this.digest);
+    }
+
+    /**
+     * Returns a new digest of the kind kept in stamps.
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    /**
+     * Returns the digest of the contents of {@code file}.
+     */
+    static byte[] digestOf(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // the stream updates the digest as it is read
+            }
+        }
+        return digest.digest();
+    }
+}
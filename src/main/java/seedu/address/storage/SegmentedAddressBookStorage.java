@@ -0,0 +1,344 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as separate json segments for the persons, the lessons
+ * and the enrollments, in a directory next to the json data file (e.g. {@code addressbook.json.segments}).
+ *
+ * A manifest in the directory names the segment files that make up the address book. Saving only writes the
+ * segments whose contents changed since they were last read or written, each to a new file, and then replaces the
+ * manifest in one atomic move. When the address book keeps a {@code ChangeLog} that goes back to the version last
+ * read or written, only the segments holding the persons and lessons it names are serialized and compared.
+ * Otherwise every segment is, which happens on the first save after the address book is read or replaced.
+ * The previous manifest and its files stay untouched until the manifest is replaced, so a crash at any point leaves a
+ * consistent set of segments behind. Files no longer named by the manifest are deleted afterwards.
+ *
+ * While there is no manifest, the json data file is read instead, so that existing data is carried over on the
+ * first save.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    /**
+     * The parts the address book is split into.
+     */
+    private enum Segment {
+        PERSONS, LESSONS, ENROLLMENTS;
+
+        String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        String getFileName(int generation) {
+            return getName() + "-" + generation + ".json";
+        }
+    }
+
+    private final Path filePath;
+    // What this storage last read from or wrote to the directory of filePath
+    private JsonSegmentManifest manifest;
+    private final Map<Segment, byte[]> digests = new EnumMap<>(Segment.class);
+    private ChangeLog changeLog;
+    private long modificationCount;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory holding the segments of the json data file at {@code filePath}.
+     */
+    static Path getSegmentDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".segments");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the json data file whose segments are read. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path directory = getSegmentDirectory(filePath);
+        try {
+            Optional<JsonSegmentManifest> storedManifest = readManifest(directory);
+            if (!storedManifest.isPresent()) {
+                if (filePath.equals(this.filePath) && Files.exists(filePath)) {
+                    logger.info("No segments found, converting " + filePath + " instead.");
+                    return new JsonAddressBookStorage(filePath).readAddressBook();
+                }
+                return Optional.empty();
+            }
+
+            Map<Segment, byte[]> contents = new EnumMap<>(Segment.class);
+            for (Segment segment : Segment.values()) {
+                String fileName = storedManifest.get().getFileName(segment.getName()).orElseThrow(() ->
+                        new IOException("Manifest in " + directory + " has no " + segment.getName() + " segment"));
+                contents.put(segment, Files.readAllBytes(directory.resolve(fileName)));
+            }
+            AddressBook addressBook = toModelType(contents);
+
+            if (filePath.equals(this.filePath)) {
+                manifest = storedManifest.get();
+                digests.clear();
+                contents.forEach((segment, content) -> digests.put(segment, digest(content)));
+                changeLog = addressBook.getChangeLog().orElse(null);
+                modificationCount = addressBook.getModificationCount();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the segments in " + directory + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the file this storage was created for skip the segments that did not change; other files have
+     * all their segments written.
+     *
+     * @param filePath location of the json data file whose segments are written. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Path directory = getSegmentDirectory(filePath);
+        Files.createDirectories(directory);
+        JsonSegmentManifest current = isOwnFile && manifest != null ? manifest : readManifest(directory).orElse(null);
+        int generation = current == null ? 1 : current.getGeneration() + 1;
+
+        Set<Segment> changedSegments = isOwnFile ? getChangedSegments(addressBook) : EnumSet.allOf(Segment.class);
+        Map<String, String> fileNames = new HashMap<>();
+        Map<Segment, byte[]> newDigests = new EnumMap<>(Segment.class);
+        boolean hasChanges = false;
+        for (Segment segment : Segment.values()) {
+            Optional<String> currentFileName = current == null
+                    ? Optional.empty()
+                    : current.getFileName(segment.getName());
+            if (isOwnFile && currentFileName.isPresent() && !changedSegments.contains(segment)) {
+                fileNames.put(segment.getName(), currentFileName.get());
+                newDigests.put(segment, digests.get(segment));
+                continue;
+            }
+            byte[] content = serialize(segment, addressBook);
+            byte[] digest = digest(content);
+            if (isOwnFile && currentFileName.isPresent() && Arrays.equals(digest, digests.get(segment))) {
+                fileNames.put(segment.getName(), currentFileName.get());
+            } else {
+                String fileName = segment.getFileName(generation);
+                FileUtil.writeAtomically(directory.resolve(fileName), tempFile -> Files.write(tempFile, content));
+                fileNames.put(segment.getName(), fileName);
+                hasChanges = true;
+            }
+            newDigests.put(segment, digest);
+        }
+        if (!hasChanges) {
+            if (isOwnFile) {
+                changeLog = addressBook.getChangeLog().orElse(null);
+                modificationCount = addressBook.getModificationCount();
+            }
+            return;
+        }
+
+        JsonSegmentManifest newManifest = new JsonSegmentManifest(generation, fileNames);
+        writeManifest(newManifest, directory);
+        if (isOwnFile) {
+            manifest = newManifest;
+            digests.clear();
+            digests.putAll(newDigests);
+            changeLog = addressBook.getChangeLog().orElse(null);
+            modificationCount = addressBook.getModificationCount();
+        }
+        deleteUnlistedFiles(newManifest, directory);
+    }
+
+    /**
+     * Returns the segments whose contents may differ from the ones last read from or written to the file of this
+     * storage, as told by the {@code ChangeLog} of {@code addressBook}, or every segment if it keeps no log that goes
+     * back that far.
+     * The enrollments of a person or lesson only change together with it, so the enrollment segment may differ
+     * whenever any person or lesson changed.
+     */
+    private Set<Segment> getChangedSegments(ReadOnlyAddressBook addressBook) {
+        Optional<ChangeLog> newChangeLog = addressBook.getChangeLog();
+        if (manifest == null || !newChangeLog.isPresent() || !newChangeLog.get().hasSameOriginAs(changeLog)
+                || addressBook.getModificationCount() < modificationCount) {
+            return EnumSet.allOf(Segment.class);
+        }
+
+        Set<Segment> changedSegments = EnumSet.noneOf(Segment.class);
+        if (addressBook.getModificationCount() == modificationCount) {
+            return changedSegments;
+        }
+        if (!newChangeLog.get().getPersonsChangedAfter(modificationCount).isEmpty()) {
+            changedSegments.add(Segment.PERSONS);
+            changedSegments.add(Segment.ENROLLMENTS);
+        }
+        if (!newChangeLog.get().getLessonsChangedAfter(modificationCount).isEmpty()) {
+            changedSegments.add(Segment.LESSONS);
+            changedSegments.add(Segment.ENROLLMENTS);
+        }
+        return changedSegments;
+    }
+
+    /**
+     * Returns the json contents of {@code segment} of {@code addressBook}.
+     */
+    private static byte[] serialize(Segment segment, ReadOnlyAddressBook addressBook) throws IOException {
+        List<Object> adapted = new ArrayList<>();
+        switch (segment) {
+        case PERSONS:
+            // enrollments are kept in their own segment
+            addressBook.getPersonList().forEach(person ->
+                    adapted.add(new JsonAdaptedPerson(person).withLessonIds(Collections.emptyList())));
+            break;
+        case LESSONS:
+            addressBook.getLessonList().forEach(lesson ->
+                    adapted.add(new JsonAdaptedLesson(lesson).withStudentIds(Collections.emptyList())));
+            break;
+        case ENROLLMENTS:
+            for (Lesson lesson : addressBook.getLessonList()) {
+                if (!lesson.getStudents().isEmpty()) {
+                    adapted.add(new JsonAdaptedEnrollment(lesson));
+                }
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown segment " + segment);
+        }
+        return JsonUtil.toJsonString(adapted).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converts the json contents of the segments into the model's {@code AddressBook} object.
+     *
+     * @throws IOException if a segment is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook toModelType(Map<Segment, byte[]> contents) throws IOException, IllegalValueException {
+        JsonAdaptedPerson[] persons = fromJson(contents.get(Segment.PERSONS), JsonAdaptedPerson[].class);
+        JsonAdaptedLesson[] lessons = fromJson(contents.get(Segment.LESSONS), JsonAdaptedLesson[].class);
+        JsonAdaptedEnrollment[] enrollments = fromJson(contents.get(Segment.ENROLLMENTS),
+                JsonAdaptedEnrollment[].class);
+
+        Map<Integer, List<Integer>> studentIdsOfLessons = new HashMap<>();
+        for (JsonAdaptedEnrollment enrollment : enrollments) {
+            if (enrollment.getLessonId() == null) {
+                throw new IllegalValueException("Enrollment lesson ID cannot be null");
+            }
+            studentIdsOfLessons.put(enrollment.getLessonId(), enrollment.getStudentIds());
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        for (JsonAdaptedPerson person : persons) {
+            assembler.addPerson(person);
+        }
+        for (JsonAdaptedLesson lesson : lessons) {
+            List<Integer> studentIds = studentIdsOfLessons.remove(lesson.getLessonId());
+            assembler.addLesson(studentIds == null ? lesson : lesson.withStudentIds(studentIds));
+        }
+        if (!studentIdsOfLessons.isEmpty()) {
+            throw new IllegalValueException("Enrollment references non-existent lesson ID: "
+                    + studentIdsOfLessons.keySet().iterator().next());
+        }
+        return assembler.assemble();
+    }
+
+    private static <T> T fromJson(byte[] content, Class<T> instanceClass) throws IOException {
+        return JsonUtil.fromJsonString(new String(content, StandardCharsets.UTF_8), instanceClass);
+    }
+
+    private static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    private static Optional<JsonSegmentManifest> readManifest(Path directory) throws IOException {
+        Path manifestFile = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestFile)) {
+            return Optional.empty();
+        }
+        return Optional.of(JsonUtil.fromJsonString(
+                new String(Files.readAllBytes(manifestFile), StandardCharsets.UTF_8), JsonSegmentManifest.class));
+    }
+
+    /**
+     * Replaces the manifest in {@code directory} with {@code manifest}, without ever leaving a partly written
+     * manifest there.
+     */
+    private static void writeManifest(JsonSegmentManifest manifest, Path directory) throws IOException {
+        JsonUtil.saveJsonFile(manifest, directory.resolve(MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} that {@code manifest} does not name, such as the ones it
+     * replaced, or ones left behind by a save that did not complete.
+     */
+    private static void deleteUnlistedFiles(JsonSegmentManifest manifest, Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*-*.json")) {
+            for (Path file : files) {
+                if (!manifest.getSegments().containsValue(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Attempting to flush data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.flush();
+    }
+
 }
@@ -0,0 +1,110 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the time, allocation and peak heap of small pieces of code for the benchmarks in this package, which are
+ * run with {@code gradlew benchmark -Pbenchmark=<class name>} rather than as tests.
+ * Each timing is warmed up first and reports the median of several rounds. That is steady enough to compare two ways
+ * of doing the same thing on one machine, but it does not guard against dead code elimination or on-stack
+ * replacement as a harness like JMH would, so results are kept alive in {@link #consume(Object)}.
+ */
+final class Benchmark {
+
+    private static volatile Object sink;
+
+    private Benchmark() {}
+
+    /**
+     * Keeps {@code result} reachable, so that the code that computed it cannot be optimised away.
+     */
+    static void consume(Object result) {
+        sink = result;
+    }
+
+    /**
+     * Runs {@code task} {@code warmupRounds} times untimed, then {@code rounds} times, and returns the median time of
+     * a timed run in nanoseconds. The result of each run is released before the next run starts.
+     */
+    static long medianNanos(int warmupRounds, int rounds, Callable<?> task) throws Exception {
+        for (int i = 0; i < warmupRounds; i++) {
+            consume(null);
+            consume(task.call());
+        }
+        long[] times = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            consume(null);
+            long start = System.nanoTime();
+            consume(task.call());
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[rounds / 2];
+    }
+
+    /**
+     * Returns the number of bytes the current thread allocates while running {@code task} once.
+     */
+    static long allocatedBytes(Callable<?> task) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        consume(null);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        consume(task.call());
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Returns the peak number of bytes of live objects that running {@code task} once adds to the heap, including the
+     * result of {@code task}. The live heap is sampled by forcing a full collection every {@code sampleMillis}
+     * milliseconds while {@code task} runs, so a peak that lasts less than that may be missed.
+     */
+    static long peakLiveHeapBytes(Callable<?> task, long sampleMillis) throws Exception {
+        long baseline = liveHeapBytes();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean isDone = new AtomicBoolean();
+        Thread sampler = new Thread(() -> {
+            while (!isDone.get()) {
+                peak.accumulateAndGet(liveHeapBytes(), Math::max);
+                try {
+                    Thread.sleep(sampleMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+        Object result = task.call();
+        isDone.set(true);
+        sampler.join();
+        peak.accumulateAndGet(liveHeapBytes(), Math::max);
+        consume(result);
+        consume(null);
+        return peak.get() - baseline;
+    }
+
+    private static long liveHeapBytes() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    static String toMillis(long nanos) {
+        return String.format("%.1f ms", nanos / 1e6);
+    }
+
+    static String toMegabytes(long bytes) {
+        return String.format("%.1f MB", bytes / 1e6);
+    }
+}
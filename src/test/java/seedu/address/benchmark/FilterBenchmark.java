@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.predicates.LessonContainsStudentPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.StudentContainsLessonPredicate;
+
+/**
+ * Compares filtering the students of a lesson, and the lessons of a student, through the roster of the lesson or
+ * student with scanning the whole book, at 100k students or at the number of students given as an argument.
+ * Each round filters by the next lesson or student, so that no round repeats the filter before it.
+ */
+public class FilterBenchmark {
+
+    private static final int DEFAULT_STUDENT_COUNT = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length == 0 ? DEFAULT_STUDENT_COUNT : Integer.parseInt(args[0]);
+        Model model = new ModelManager(GeneratedAddressBook.withStudents(studentCount), new UserPrefs());
+        List<Person> students = List.copyOf(model.getAddressBook().getPersonList());
+        List<Lesson> lessons = List.copyOf(model.getAddressBook().getLessonList());
+
+        System.out.printf("%,d students, %,d lessons%n", students.size(), lessons.size());
+        report("students of a lesson, roster", filterPersons(model,
+                i -> new StudentContainsLessonPredicate(lessons.get(i % lessons.size()))));
+        report("students of a lesson, scan", filterPersons(model, i -> {
+            Lesson lesson = lessons.get(i % lessons.size());
+            return person -> person.hasLesson(lesson);
+        }));
+        report("lessons of a student, roster", filterLessons(model,
+                i -> new LessonContainsStudentPredicate(students.get(i % students.size()))));
+        report("lessons of a student, scan", filterLessons(model, i -> {
+            Person student = students.get(i % students.size());
+            return lesson -> lesson.hasStudent(student);
+        }));
+    }
+
+    private static Callable<Integer> filterPersons(Model model, IntFunction<Predicate<Person>> predicates) {
+        int[] round = {0};
+        return () -> {
+            model.updateFilteredPersonList(predicates.apply(round[0]++));
+            return model.getFilteredPersonList().size();
+        };
+    }
+
+    private static Callable<Integer> filterLessons(Model model, IntFunction<Predicate<Lesson>> predicates) {
+        int[] round = {0};
+        return () -> {
+            model.updateFilteredLessonList(predicates.apply(round[0]++));
+            return model.getFilteredLessonList().size();
+        };
+    }
+
+    private static void report(String name, Callable<Integer> task) throws Exception {
+        long nanos = Benchmark.medianNanos(50, 101, task);
+        long bytes = Benchmark.allocatedBytes(task);
+        System.out.printf("  %-30s %12.3f ms %14.1f KB allocated%n", name, nanos / 1e6, bytes / 1e3);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.benchmark;
+
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.lesson.Venue;
+import seedu.address.model.note.Note;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UserId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Builds address books of a given number of students for the benchmarks. There is one lesson for every
+ * {@value #STUDENTS_PER_LESSON} students, spread over the week, and every student is assigned to
+ * {@value #LESSONS_PER_STUDENT} lessons.
+ */
+final class GeneratedAddressBook {
+
+    static final int STUDENTS_PER_LESSON = 20;
+    static final int LESSONS_PER_STUDENT = 2;
+
+    private static final Day[] DAYS = Day.values();
+    private static final Set<Tag> TAGS = Set.of(new Tag("secondary"));
+
+    private GeneratedAddressBook() {}
+
+    static AddressBook withStudents(int studentCount) {
+        int lessonCount = Math.max(LESSONS_PER_STUDENT, studentCount / STUDENTS_PER_LESSON);
+        AddressBook addressBook = new AddressBook();
+        Lesson[] lessons = new Lesson[lessonCount];
+        for (int i = 0; i < lessonCount; i++) {
+            int startHour = 8 + i / DAYS.length % 12;
+            lessons[i] = new Lesson(new LessonId(i + 1), DAYS[i % DAYS.length],
+                    Time.of(String.format("%02d00", startHour)), Time.of(String.format("%02d00", startHour + 1)),
+                    new Venue("Room " + (i % 40 + 1)), new Note("Lesson " + (i + 1)));
+            addressBook.addLesson(lessons[i]);
+        }
+        for (int i = 0; i < studentCount; i++) {
+            Person student = new Person(new UserId(i + 1), new Name("Student " + (i + 1)),
+                    new Phone(String.valueOf(80_000_000 + i)), new Email("student" + (i + 1) + "@example.com"),
+                    new Note("Note of student " + (i + 1)), TAGS);
+            addressBook.addPerson(student);
+            for (int j = 0; j < LESSONS_PER_STUDENT; j++) {
+                addressBook.assign(student, lessons[(i + j * 7) % lessonCount]);
+            }
+        }
+        addressBook.setInitialMaxUserId(studentCount);
+        addressBook.setInitialMaxLessonId(lessonCount);
+        return addressBook;
+    }
+}
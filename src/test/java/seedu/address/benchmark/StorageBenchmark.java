@@ -0,0 +1,118 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.WholeFileJsonAddressBookStorage;
+
+/**
+ * Compares the ways of loading and saving an address book at 10k, 100k and 1M students, or at the numbers of
+ * students given as arguments:
+ * <ul>
+ * <li>load time of the json file, with and without its validation stamp, and of the binary snapshot</li>
+ * <li>time and allocation of saving json as a whole string, streamed with indentation, and streamed compact</li>
+ * <li>peak live heap of loading the json file of the largest book as a whole string, and streamed</li>
+ * </ul>
+ */
+public class StorageBenchmark {
+
+    private static final int[] DEFAULT_STUDENT_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final long PEAK_HEAP_SAMPLE_MILLIS = 100;
+
+    public static void main(String[] args) throws Exception {
+        int[] studentCounts = args.length == 0
+                ? DEFAULT_STUDENT_COUNTS
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        Path directory = Files.createTempDirectory("storage-benchmark");
+        try {
+            for (int studentCount : studentCounts) {
+                run(studentCount, directory.resolve(String.valueOf(studentCount)));
+            }
+            measurePeakHeap(directory.resolve(String.valueOf(studentCounts[studentCounts.length - 1])));
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void run(int studentCount, Path directory) throws Exception {
+        Files.createDirectories(directory);
+        Path stampedJson = directory.resolve("stamped.json");
+        Path unstampedJson = directory.resolve("unstamped.json");
+        Path compactJson = directory.resolve("compact.json");
+        Path binaryJson = directory.resolve("binary.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(stampedJson);
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(compactJson, true, false, 0);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryJson);
+        int rounds = studentCount >= 1_000_000 ? 3 : 7;
+
+        System.out.printf("%n%,d students%n", studentCount);
+        measureSaves(studentCount, rounds, unstampedJson, jsonStorage, compactStorage, binaryStorage);
+        System.out.printf("  json %s, compact json %s, binary %s%n",
+                Benchmark.toMegabytes(Files.size(stampedJson)), Benchmark.toMegabytes(Files.size(compactJson)),
+                Benchmark.toMegabytes(Files.size(BinaryAddressBookStorage.getSnapshotPath(binaryJson))));
+
+        report("load json, stamped", rounds, () -> jsonStorage.readAddressBook().orElseThrow());
+        report("load json, checked", rounds,
+                () -> new JsonAddressBookStorage(unstampedJson).readAddressBook().orElseThrow());
+        report("load binary", rounds, () -> binaryStorage.readAddressBook().orElseThrow());
+    }
+
+    /**
+     * Saves a generated book of {@code studentCount} students every way, and leaves it unreachable afterwards so that
+     * the loads that follow are measured with only the loaded book on the heap.
+     */
+    private static void measureSaves(int studentCount, int rounds, Path unstampedJson,
+            JsonAddressBookStorage jsonStorage, JsonAddressBookStorage compactStorage,
+            BinaryAddressBookStorage binaryStorage) throws Exception {
+        AddressBook addressBook = GeneratedAddressBook.withStudents(studentCount);
+        report("save json, whole string", rounds,
+                () -> saveWholeFile(addressBook, unstampedJson));
+        report("save json, streamed", rounds,
+                () -> save(jsonStorage, addressBook));
+        report("save json, streamed compact", rounds,
+                () -> save(compactStorage, addressBook));
+        report("save binary", rounds,
+                () -> save(binaryStorage, addressBook));
+    }
+
+    private static void measurePeakHeap(Path directory) throws Exception {
+        Path json = directory.resolve("unstamped.json");
+        System.out.printf("%nPeak live heap loading %s of json, with fields checked%n",
+                Benchmark.toMegabytes(Files.size(json)));
+        System.out.printf("  %-30s %12s%n", "whole string", Benchmark.toMegabytes(Benchmark.peakLiveHeapBytes(
+                () -> WholeFileJsonAddressBookStorage.read(json), PEAK_HEAP_SAMPLE_MILLIS)));
+        System.out.printf("  %-30s %12s%n", "streamed", Benchmark.toMegabytes(Benchmark.peakLiveHeapBytes(
+                () -> new JsonAddressBookStorage(json).readAddressBook().orElseThrow(), PEAK_HEAP_SAMPLE_MILLIS)));
+    }
+
+    private static Object saveWholeFile(AddressBook addressBook, Path filePath) throws Exception {
+        WholeFileJsonAddressBookStorage.save(addressBook, filePath);
+        return filePath;
+    }
+
+    private static Object save(JsonAddressBookStorage storage, AddressBook addressBook) throws Exception {
+        storage.saveAddressBook(addressBook);
+        return storage;
+    }
+
+    private static Object save(BinaryAddressBookStorage storage, AddressBook addressBook) throws Exception {
+        storage.saveAddressBook(addressBook);
+        return storage;
+    }
+
+    private static void report(String name, int rounds, Callable<?> task) throws Exception {
+        long nanos = Benchmark.medianNanos(1, rounds, task);
+        long bytes = Benchmark.allocatedBytes(task);
+        System.out.printf("  %-30s %12s %16s allocated%n", name, Benchmark.toMillis(nanos),
+                Benchmark.toMegabytes(bytes));
+    }
+}
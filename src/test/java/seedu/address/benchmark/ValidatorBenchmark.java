@@ -0,0 +1,94 @@
+package seedu.address.benchmark;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+import seedu.address.model.lesson.Time;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the field validators with the regex and {@code DateTimeFormatter} checks they replaced, on a fixed mix of
+ * valid and invalid input.
+ */
+public class ValidatorBenchmark {
+
+    private static final int INPUT_COUNT = 10_000;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
+    public static void main(String[] args) throws Exception {
+        Random random = new Random(21);
+        String[] names = new String[INPUT_COUNT];
+        String[] phones = new String[INPUT_COUNT];
+        String[] tags = new String[INPUT_COUNT];
+        String[] emails = new String[INPUT_COUNT];
+        String[] times = new String[INPUT_COUNT];
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            // every eighth input is invalid
+            boolean isValid = i % 8 != 0;
+            names[i] = isValid ? "Student " + i : "Student #" + i;
+            phones[i] = isValid ? String.valueOf(80_000_000 + random.nextInt(10_000_000)) : "9123-" + i;
+            tags[i] = isValid ? "group" + i % 50 : "group_" + i;
+            emails[i] = isValid ? "student" + i + "@example.com" : "student" + i + "@example";
+            times[i] = isValid
+                    ? String.format("%02d%02d", random.nextInt(24), random.nextInt(60))
+                    : String.valueOf(2400 + i % 100);
+        }
+
+        System.out.printf("%-8s %-22s %12s %14s%n", "field", "check", "ns/input", "bytes/input");
+        compare("name", names, test -> test.matches(Name.VALIDATION_REGEX), Name::isValidName);
+        compare("phone", phones, test -> test.matches(Phone.VALIDATION_REGEX), Phone::isValidPhone);
+        compare("tag", tags, test -> test.matches(Tag.VALIDATION_REGEX), Tag::isValidTagName);
+        compare("email", emails, test -> test.matches(Email.VALIDATION_REGEX), Email::isValidEmail);
+        compare("time", times, ValidatorBenchmark::isValidTimeByFormatter, Time::isValidTime);
+    }
+
+    /**
+     * The check {@code Time.isValidTime} made before it parsed the digits itself.
+     */
+    private static boolean isValidTimeByFormatter(String test) {
+        if (test.equals("2400")) {
+            return false;
+        }
+        try {
+            LocalTime.parse(test, TIME_FORMATTER);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static void compare(String field, String[] inputs, Predicate<String> before, Predicate<String> after)
+            throws Exception {
+        for (String input : inputs) {
+            if (before.test(input) != after.test(input)) {
+                throw new AssertionError("The checks of " + field + " disagree on " + input);
+            }
+        }
+        report(field, "before (regex/parse)", inputs, before);
+        report(field, "after (validator)", inputs, after);
+    }
+
+    private static void report(String field, String check, String[] inputs, Predicate<String> validator)
+            throws Exception {
+        Callable<Integer> task = () -> {
+            int validCount = 0;
+            for (String input : inputs) {
+                if (validator.test(input)) {
+                    validCount++;
+                }
+            }
+            return validCount;
+        };
+        long nanos = Benchmark.medianNanos(200, 51, task);
+        long bytes = Benchmark.allocatedBytes(task);
+        System.out.printf("%-8s %-22s %12.1f %14.1f%n", field, check,
+                (double) nanos / inputs.length, (double) bytes / inputs.length);
+    }
+}
@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", writeBehindSave=" + config.isWriteBehindSave()
+                + ", storageMode=" + config.getStorageMode()
+                + ", compactJsonSave=" + config.isCompactJsonSave()
+                + ", parallelLoad=" + config.isParallelLoad()
+                + ", groupCommitMillis=" + config.getGroupCommitMillis() + "}";
         assertEquals(expected, config.toString());
     }
 
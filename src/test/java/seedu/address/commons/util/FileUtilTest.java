@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,16 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+
+        FileUtil.writeAtomically(file, tempFile -> FileUtil.writeToFile(tempFile, "first"));
+        assertEquals("first", FileUtil.readFromFile(file));
+
+        FileUtil.writeAtomically(file, tempFile -> FileUtil.writeToFile(tempFile, "second"));
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFile(file)));
+    }
+
 }
@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GroupCommitFileWriterTest {
+
+    // long enough that no background commit happens during a test
+    private static final long LONG_INTERVAL_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GroupCommitFileWriter(-1));
+    }
+
+    @Test
+    public void write_zeroInterval_committedImmediately() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        GroupCommitFileWriter writer = new GroupCommitFileWriter(0);
+
+        writer.write(file, tempFile -> FileUtil.writeToFile(tempFile, "first"));
+        writer.write(file, tempFile -> FileUtil.writeToFile(tempFile, "second"));
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFile(file)));
+    }
+
+    @Test
+    public void write_withinInterval_committedOnFlush() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        GroupCommitFileWriter writer = new GroupCommitFileWriter(LONG_INTERVAL_MILLIS);
+
+        // first write of a file is committed straight away
+        writer.write(file, tempFile -> FileUtil.writeToFile(tempFile, "first"));
+        assertEquals("first", FileUtil.readFromFile(file));
+
+        // later writes wait for the interval, and only the latest is committed
+        writer.write(file, tempFile -> FileUtil.writeToFile(tempFile, "second"));
+        writer.write(file, tempFile -> FileUtil.writeToFile(tempFile, "third"));
+        assertEquals("first", FileUtil.readFromFile(file));
+
+        writer.flush();
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFile(file)));
+    }
+
+    @Test
+    public void append_withinInterval_appendedStraightAway() throws Exception {
+        Path file = testFolder.resolve("journal.txt");
+        GroupCommitFileWriter writer = new GroupCommitFileWriter(LONG_INTERVAL_MILLIS);
+
+        // appends reach the file at once, only forcing them to disk waits for the interval
+        writer.append(file, "first\n".getBytes(StandardCharsets.UTF_8));
+        writer.append(file, "second\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+
+        writer.flush();
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void flush_appendedFileDeleted_success() throws Exception {
+        Path file = testFolder.resolve("journal.txt");
+        GroupCommitFileWriter writer = new GroupCommitFileWriter(LONG_INTERVAL_MILLIS);
+
+        writer.append(file, "first\n".getBytes(StandardCharsets.UTF_8));
+        writer.append(file, "second\n".getBytes(StandardCharsets.UTF_8));
+        Files.delete(file);
+        writer.flush();
+        assertFalse(Files.exists(file));
+    }
+}
@@ -10,6 +10,29 @@ import org.junit.jupiter.api.Test;
 
 public class StringUtilTest {
 
+    //---------------- Tests for isAsciiDigit and isAsciiAlphanumeric --------------------------------------
+
+    @Test
+    public void isAsciiDigit() {
+        assertTrue(StringUtil.isAsciiDigit('0'));
+        assertTrue(StringUtil.isAsciiDigit('9'));
+
+        assertFalse(StringUtil.isAsciiDigit('a'));
+        assertFalse(StringUtil.isAsciiDigit(' '));
+        assertFalse(StringUtil.isAsciiDigit('\u0669')); // non-ASCII digit
+    }
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertTrue(StringUtil.isAsciiAlphanumeric('0'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('a'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('Z'));
+
+        assertFalse(StringUtil.isAsciiAlphanumeric('_'));
+        assertFalse(StringUtil.isAsciiAlphanumeric(' '));
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00e9')); // non-ASCII letter
+    }
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
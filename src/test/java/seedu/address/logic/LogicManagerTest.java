@@ -87,6 +87,64 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_writeBehind_savesLatestSnapshotByFlush() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("writeBehindAddressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), true);
+
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + STUDENT_NOTE_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        logic.flush();
+
+        ReadOnlyAddressBook saved = addressBookStorage.readAddressBook().get();
+        assertEquals(model.getAddressBook().getPersonList(), saved.getPersonList());
+    }
+
+    @Test
+    public void execute_writeBehindSaveFails_reportedWithResultOfNextExecute() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), true);
+
+        // the command itself succeeds, since the failed save has not happened yet when it returns
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        logic.flush();
+
+        // the next command still succeeds, and the failed save is reported after its feedback
+        CommandResult result = logic.execute(ListStudentCommand.COMMAND_WORD);
+        assertEquals(ListStudentCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_unchangedAddressBook_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + STUDENT_NOTE_DESC_AMY;
+
+        // the first command always saves, since nothing has been saved yet
+        logicManager.execute(ListStudentCommand.COMMAND_WORD);
+        logicManager.execute(ListStudentCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getPerformedSaveCount());
+        assertEquals(1, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(addCommand);
+        logicManager.execute(ListStudentCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getPerformedSaveCount());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalLessons.MATH_LESSON;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import seedu.address.model.lesson.Time;
 import seedu.address.model.lesson.Venue;
 import seedu.address.model.note.Note;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
 
 public class AddLessonCommandTest {
 
@@ -43,8 +45,8 @@ public class AddLessonCommandTest {
         Lesson validLesson = new Lesson(
                 new LessonId(1001),
                 Day.MON,
-                new Time("1400"),
-                new Time("1600"),
+                Time.of("1400"),
+                Time.of("1600"),
                 new Venue("Blk 123 Computing Dr 1"),
                 new Note("Algebra basics")
         );
@@ -62,8 +64,8 @@ public class AddLessonCommandTest {
         Lesson validLesson = new Lesson(
                 new LessonId(1001),
                 Day.MON,
-                new Time("1400"),
-                new Time("1600"),
+                Time.of("1400"),
+                Time.of("1600"),
                 new Venue("Blk 123 Computing Dr 1"),
                 new Note("Algebra basics")
         );
@@ -79,16 +81,16 @@ public class AddLessonCommandTest {
         Lesson mathLesson = new Lesson(
                 new LessonId(1001),
                 Day.MON,
-                new Time("1400"),
-                new Time("1600"),
+                Time.of("1400"),
+                Time.of("1600"),
                 new Venue("Blk 123 Computing Dr 1"),
                 new Note("Algebra basics")
         );
         Lesson englishLesson = new Lesson(
                 new LessonId(1002),
                 Day.TUE,
-                new Time("1000"),
-                new Time("1200"),
+                Time.of("1000"),
+                Time.of("1200"),
                 new Venue("Blk 456 English Ave 2"),
                 new Note("Grammar review")
         );
@@ -203,6 +205,16 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getById(UserId userId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Lesson> getById(LessonId lessonId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredLessonList(Predicate<Lesson> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -14,12 +14,17 @@ import static seedu.address.testutil.TypicalPersons.DUPLICATE_NAME;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for AssignCommand.
@@ -82,6 +87,72 @@ public class AssignCommandTest {
         assertThrows(CommandException.class, () -> assignCommand.execute(model));
     }
 
+    @Test
+    public void execute_lessonClashesWithAssignedLesson_throwsCommandException() {
+        Person student = new PersonBuilder().withUserId(7001).withName("Clash Student").build();
+        Lesson assignedLesson = new LessonBuilder().withLessonId(7101).withDay("FRI").withStartTime("1000")
+                .withEndTime("1200").build();
+        Lesson overlappingLesson = new LessonBuilder().withLessonId(7102).withDay("FRI").withStartTime("1130")
+                .withEndTime("1300").build();
+        Model clashModel = new ModelManager();
+        clashModel.addPerson(student);
+        clashModel.addLesson(assignedLesson);
+        clashModel.addLesson(overlappingLesson);
+        clashModel.assign(student, assignedLesson);
+
+        AssignCommand assignCommand = new AssignCommand(student.getName(), FIRST_INDEX, Day.FRI,
+                Index.fromOneBased(2));
+
+        CommandException exception = assertThrows(CommandException.class, () -> assignCommand.execute(clashModel));
+        assertEquals(String.format(AssignCommand.MESSAGE_LESSON_CLASH, Messages.format(assignedLesson)),
+                exception.getMessage());
+        assertFalse(student.hasLesson(overlappingLesson));
+    }
+
+    @Test
+    public void execute_assignedLessonsAlreadyOverlap_throwsCommandException() {
+        Person student = new PersonBuilder().withUserId(7003).withName("Overlap Student").build();
+        Lesson longLesson = new LessonBuilder().withLessonId(7301).withDay("FRI").withStartTime("0900")
+                .withEndTime("1200").build();
+        Lesson shortLesson = new LessonBuilder().withLessonId(7302).withDay("FRI").withStartTime("1000")
+                .withEndTime("1100").build();
+        Lesson lateLesson = new LessonBuilder().withLessonId(7303).withDay("FRI").withStartTime("1130")
+                .withEndTime("1200").build();
+        Model clashModel = new ModelManager();
+        clashModel.addPerson(student);
+        clashModel.addLesson(longLesson);
+        clashModel.addLesson(shortLesson);
+        clashModel.addLesson(lateLesson);
+        clashModel.assign(student, longLesson);
+        clashModel.assign(student, shortLesson);
+
+        AssignCommand assignCommand = new AssignCommand(student.getName(), FIRST_INDEX, Day.FRI,
+                Index.fromOneBased(3));
+
+        CommandException exception = assertThrows(CommandException.class, () -> assignCommand.execute(clashModel));
+        assertEquals(String.format(AssignCommand.MESSAGE_LESSON_CLASH, Messages.format(longLesson)),
+                exception.getMessage());
+        assertFalse(student.hasLesson(lateLesson));
+    }
+
+    @Test
+    public void execute_lessonTouchesAssignedLesson_assignsStudent() throws Exception {
+        Person student = new PersonBuilder().withUserId(7002).withName("Adjacent Student").build();
+        Lesson assignedLesson = new LessonBuilder().withLessonId(7201).withDay("FRI").withStartTime("1000")
+                .withEndTime("1200").build();
+        Lesson nextLesson = new LessonBuilder().withLessonId(7202).withDay("FRI").withStartTime("1200")
+                .withEndTime("1300").build();
+        Model adjacentModel = new ModelManager();
+        adjacentModel.addPerson(student);
+        adjacentModel.addLesson(assignedLesson);
+        adjacentModel.addLesson(nextLesson);
+        adjacentModel.assign(student, assignedLesson);
+
+        new AssignCommand(student.getName(), FIRST_INDEX, Day.FRI, Index.fromOneBased(2)).execute(adjacentModel);
+
+        assertTrue(student.hasLesson(nextLesson));
+    }
+
     @Test
     public void equals() {
         Name nameAlice = ALICE.getName();
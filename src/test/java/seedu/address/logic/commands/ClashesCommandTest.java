@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertStudentCommandSuccess;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.HasClashingLessonsPredicate;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for ClashesCommand.
+ */
+public class ClashesCommandTest {
+
+    private final Person clashingStudent = new PersonBuilder().withUserId(7301).withName("Clashing Student").build();
+    private final Person freeStudent = new PersonBuilder().withUserId(7302).withName("Free Student").build();
+    private final Lesson morning = new LessonBuilder().withLessonId(7401).withDay("THU").withStartTime("0900")
+            .withEndTime("1100").build();
+    private final Lesson lateMorning = new LessonBuilder().withLessonId(7402).withDay("THU").withStartTime("1000")
+            .withEndTime("1200").build();
+    private final Lesson afternoon = new LessonBuilder().withLessonId(7403).withDay("THU").withStartTime("1400")
+            .withEndTime("1500").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(clashingStudent);
+        model.addPerson(freeStudent);
+        model.addLesson(morning);
+        model.addLesson(lateMorning);
+        model.addLesson(afternoon);
+        model.assign(freeStudent, morning);
+        model.assign(freeStudent, afternoon);
+    }
+
+    @Test
+    public void execute_noClashes_showsNoStudents() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        expectedModel.updateFilteredPersonList(new HasClashingLessonsPredicate());
+
+        assertStudentCommandSuccess(new ClashesCommand(), model, ClashesCommand.MESSAGE_NO_CLASHES, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_studentWithOverlappingLessons_showsOnlyThatStudent() {
+        // lessons assigned before clash checks existed may still overlap
+        model.assign(clashingStudent, morning);
+        model.assign(clashingStudent, lateMorning);
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        expectedModel.updateFilteredPersonList(new HasClashingLessonsPredicate());
+
+        assertStudentCommandSuccess(new ClashesCommand(), model,
+                String.format(ClashesCommand.MESSAGE_SUCCESS, 1), expectedModel);
+        assertEquals(Collections.singletonList(clashingStudent), model.getFilteredPersonList());
+        assertTrue(model.isPersonsDisplayed());
+    }
+
+    @Test
+    public void equals() {
+        ClashesCommand clashesCommand = new ClashesCommand();
+
+        // same object -> returns true
+        assertTrue(clashesCommand.equals(clashesCommand));
+
+        // same values -> returns true
+        assertTrue(clashesCommand.equals(new ClashesCommand()));
+
+        // different types -> returns false
+        assertFalse(clashesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(clashesCommand.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = ClashesCommand.class.getCanonicalName() + "{}";
+        assertEquals(expected, new ClashesCommand().toString());
+    }
+}
@@ -25,8 +25,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.EditLessonDescriptorBuilder;
 import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for EditCommand.
@@ -159,6 +161,50 @@ public class EditLessonCommandTest {
         assertCommandFailure(editLessonCommand, model, Messages.MESSAGE_END_TIME_CANNOT_BEFORE_START_TIME);
     }
 
+    @Test
+    public void execute_movedOntoAnotherLessonOfStudent_failure() {
+        Person student = new PersonBuilder().withUserId(7401).withName("Moved Student").build();
+        Lesson morning = new LessonBuilder().withLessonId(7401).withDay("MON").withStartTime("0900")
+                .withEndTime("1000").build();
+        Lesson noon = new LessonBuilder().withLessonId(7402).withDay("MON").withStartTime("1200")
+                .withEndTime("1300").build();
+        Model clashModel = new ModelManager();
+        clashModel.addPerson(student);
+        clashModel.addLesson(morning);
+        clashModel.addLesson(noon);
+        clashModel.assign(student, morning);
+        clashModel.assign(student, noon);
+        clashModel.setDisplayedListToLessons();
+
+        EditLessonDescriptor descriptor = new EditLessonDescriptorBuilder()
+                .withStartTime("1130").withEndTime("1230").build();
+        EditLessonCommand editLessonCommand = new EditLessonCommand(FIRST_INDEX, descriptor);
+
+        assertCommandFailure(editLessonCommand, clashModel, String.format(EditLessonCommand.MESSAGE_LESSON_CLASH,
+                student.getName(), Messages.format(noon)));
+        assertFalse(student.hasClashingLessons());
+    }
+
+    @Test
+    public void execute_movedWithinOwnTime_success() throws Exception {
+        Person student = new PersonBuilder().withUserId(7403).withName("Stay Student").build();
+        Lesson morning = new LessonBuilder().withLessonId(7403).withDay("MON").withStartTime("0900")
+                .withEndTime("1100").build();
+        Model editModel = new ModelManager();
+        editModel.addPerson(student);
+        editModel.addLesson(morning);
+        editModel.assign(student, morning);
+        editModel.setDisplayedListToLessons();
+
+        // the lesson overlaps its own old time, which is not a clash
+        EditLessonDescriptor descriptor = new EditLessonDescriptorBuilder().withStartTime("1000")
+                .withEndTime("1200").build();
+        new EditLessonCommand(FIRST_INDEX, descriptor).execute(editModel);
+
+        assertEquals("1000", editModel.getFilteredLessonList().get(0).getStartTime().toString());
+        assertFalse(student.hasClashingLessons());
+    }
+
     @Test
     public void equals() {
         final EditLessonCommand standardCommand = new EditLessonCommand(FIRST_INDEX, DESC_MATH);
@@ -19,7 +19,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Time;
 import seedu.address.model.lesson.predicates.DayMatchesPredicate;
+import seedu.address.model.lesson.predicates.LessonOverlapsTimeWindowPredicate;
 
 public class FindLessonCommandTest {
 
@@ -81,6 +83,36 @@ public class FindLessonCommandTest {
         assertEquals(Collections.singletonList(ENGLISH_LESSON), model.getFilteredLessonList());
     }
 
+    @Test
+    public void execute_monTimeWindow_overlappingLessonsFoundByStartTime() {
+        LessonOverlapsTimeWindowPredicate predicate =
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1000"), Time.of("1500"));
+        FindLessonCommand command = new FindLessonCommand(predicate);
+
+        expectedModel.updateFilteredLessonList(predicate);
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 2);
+        CommandResult expected = new CommandResult(expectedMessage, false, false, true);
+
+        assertLessonCommandSuccess(command, model, expected, expectedModel);
+        // HISTORY (0900-1100) starts before MATH (1400-1600)
+        assertEquals(Arrays.asList(HISTORY_LESSON, MATH_LESSON), model.getFilteredLessonList());
+    }
+
+    @Test
+    public void execute_timeWindowBetweenLessons_zeroLessonsFound() {
+        // HISTORY ends at 1100 and MATH starts at 1400, so neither overlaps the window
+        LessonOverlapsTimeWindowPredicate predicate =
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1100"), Time.of("1400"));
+        FindLessonCommand command = new FindLessonCommand(predicate);
+
+        expectedModel.updateFilteredLessonList(predicate);
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 0);
+        CommandResult expected = new CommandResult(expectedMessage, false, false, true);
+
+        assertLessonCommandSuccess(command, model, expected, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredLessonList());
+    }
+
     @Test
     public void toStringMethod() {
         DayMatchesPredicate predicate = new DayMatchesPredicate(Day.WED);
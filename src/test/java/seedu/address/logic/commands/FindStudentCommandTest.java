@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertStudentCommandSuccess;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.DANIEL_2;
@@ -13,13 +15,16 @@ import static seedu.address.testutil.TypicalPersons.DANIEL_3;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.predicates.HasTagsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -85,6 +90,26 @@ public class FindStudentCommandTest {
         assertEquals(Arrays.asList(DANIEL, DANIEL_2, DANIEL_3), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_allTags_personsWithEveryTagFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        HasTagsPredicate predicate = new HasTagsPredicate(Set.of(new Tag("friends"), new Tag("owesMoney")), true);
+        FindStudentCommand command = new FindStudentCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertStudentCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_anyTag_personsWithSomeTagFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 5);
+        HasTagsPredicate predicate = new HasTagsPredicate(Set.of(new Tag("owesMoney"), new Tag("friends")), false);
+        FindStudentCommand command = new FindStudentCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertStudentCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, DANIEL_2, DANIEL_3), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordPredicate predicate = new NameContainsKeywordPredicate("keyword");
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,7 +18,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
 
 /**
  * Unit tests for {@link ListLessonCommand}.
@@ -99,6 +102,12 @@ public class ListLessonCommandTest {
         @Override public boolean hasLesson(Lesson lesson) {
             throw new AssertionError();
         }
+        @Override public Optional<Person> getById(UserId userId) {
+            throw new AssertionError();
+        }
+        @Override public Optional<Lesson> getById(LessonId lessonId) {
+            throw new AssertionError();
+        }
         @Override public ObservableList<Person> getFilteredPersonList() {
             return FXCollections.observableArrayList();
         }
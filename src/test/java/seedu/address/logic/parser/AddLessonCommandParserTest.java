@@ -53,8 +53,8 @@ public class AddLessonCommandParserTest {
 
         // Verify all fields except lessonId (which is randomly generated)
         assertEquals(Day.valueOf(VALID_DAY_MATH), actualLesson.getDay());
-        assertEquals(new Time(VALID_STARTTIME_MATH), actualLesson.getStartTime());
-        assertEquals(new Time(VALID_ENDTIME_MATH), actualLesson.getEndTime());
+        assertEquals(Time.of(VALID_STARTTIME_MATH), actualLesson.getStartTime());
+        assertEquals(Time.of(VALID_ENDTIME_MATH), actualLesson.getEndTime());
         assertEquals(new Venue(VALID_VENUE_MATH), actualLesson.getVenue());
         assertEquals(VALID_LESSON_NOTE_MATH, actualLesson.getNote().value);
     }
@@ -68,8 +68,8 @@ public class AddLessonCommandParserTest {
 
         // Verify all fields except lessonId
         assertEquals(Day.valueOf(VALID_DAY_MATH), actualLesson.getDay());
-        assertEquals(new Time(VALID_STARTTIME_MATH), actualLesson.getStartTime());
-        assertEquals(new Time(VALID_ENDTIME_MATH), actualLesson.getEndTime());
+        assertEquals(Time.of(VALID_STARTTIME_MATH), actualLesson.getStartTime());
+        assertEquals(Time.of(VALID_ENDTIME_MATH), actualLesson.getEndTime());
         assertEquals(new Venue(""), actualLesson.getVenue());
         assertEquals(new Note(""), actualLesson.getNote());
     }
@@ -6,9 +6,13 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
+
 import seedu.address.logic.commands.FindLessonCommand;
 import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Time;
 import seedu.address.model.lesson.predicates.DayMatchesPredicate;
+import seedu.address.model.lesson.predicates.LessonOverlapsTimeWindowPredicate;
 
 public class FindLessonCommandParserTest {
 
@@ -57,4 +61,42 @@ public class FindLessonCommandParserTest {
         FindLessonCommand expectedCommand = new FindLessonCommand(new DayMatchesPredicate(Day.MON));
         assertParseSuccess(parser, "   MON   ", expectedCommand);
     }
+
+    @Test
+    public void parse_validTimeWindow_returnsFindLessonCommand() {
+        FindLessonCommand expectedCommand = new FindLessonCommand(
+                new LessonOverlapsTimeWindowPredicate(Day.TUE, Time.of("1400"), Time.of("1600")));
+        assertParseSuccess(parser, " d/tue st/1400 et/1600", expectedCommand);
+
+        // prefixes in any order
+        assertParseSuccess(parser, " et/1600 st/1400 d/TUE", expectedCommand);
+    }
+
+    @Test
+    public void parse_incompleteTimeWindow_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE);
+
+        // missing end time
+        assertParseFailure(parser, " d/TUE st/1400", expectedMessage);
+
+        // missing day
+        assertParseFailure(parser, " st/1400 et/1600", expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, " MON d/TUE st/1400 et/1600", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTimeWindow_throwsParseException() {
+        // invalid time
+        assertParseFailure(parser, " d/TUE st/1400 et/2500", Time.MESSAGE_CONSTRAINTS);
+
+        // end time not after start time
+        assertParseFailure(parser, " d/TUE st/1400 et/1400", Messages.MESSAGE_END_TIME_CANNOT_BEFORE_START_TIME);
+        assertParseFailure(parser, " d/TUE st/1600 et/1400", Messages.MESSAGE_END_TIME_CANNOT_BEFORE_START_TIME);
+
+        // duplicate prefix
+        assertParseFailure(parser, " d/TUE d/MON st/1400 et/1600",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DAY));
+    }
 }
@@ -4,10 +4,14 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindStudentCommand;
+import seedu.address.model.person.predicates.HasTagsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindStudentCommandParserTest {
 
@@ -27,4 +31,26 @@ public class FindStudentCommandParserTest {
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_tagsWithoutMode_returnsFindCommandMatchingAllTags() {
+        FindStudentCommand expectedFindCommand = new FindStudentCommand(
+                new HasTagsPredicate(Set.of(new Tag("friends"), new Tag("owesMoney")), true));
+        assertParseSuccess(parser, " t/friends t/owesMoney", expectedFindCommand);
+        assertParseSuccess(parser, " ALL t/friends t/owesMoney", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_tagsWithAnyMode_returnsFindCommandMatchingAnyTag() {
+        FindStudentCommand expectedFindCommand = new FindStudentCommand(
+                new HasTagsPredicate(Set.of(new Tag("friends"), new Tag("owesMoney")), false));
+        assertParseSuccess(parser, " any t/friends t/owesMoney", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_tagsWithInvalidModeOrTag_throwsParseException() {
+        assertParseFailure(parser, " some t/friends",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " any t/friends t/*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +22,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -84,6 +86,147 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_changesOnlyWhenDataChanges() {
+        Person student = new PersonBuilder().withUserId(901).build();
+        Lesson lesson = new LessonBuilder().withLessonId(901).build();
+        long initialCount = addressBook.getModificationCount();
+
+        addressBook.hasPerson(student);
+        addressBook.getPersonsWithNameContaining("a");
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(student);
+        addressBook.addLesson(lesson);
+        long countBeforeAssign = addressBook.getModificationCount();
+        assertTrue(countBeforeAssign > initialCount);
+
+        addressBook.assign(student, lesson);
+        long countAfterAssign = addressBook.getModificationCount();
+        assertTrue(countAfterAssign > countBeforeAssign);
+        assertTrue(student.hasLesson(lesson));
+
+        addressBook.unassign(student, lesson);
+        assertTrue(addressBook.getModificationCount() > countAfterAssign);
+        assertFalse(student.hasLesson(lesson));
+    }
+
+    @Test
+    public void assign_studentNotInAddressBook_throwsAssertionError() {
+        Lesson lesson = new LessonBuilder().withLessonId(902).build();
+        addressBook.addLesson(lesson);
+        long count = addressBook.getModificationCount();
+        assertThrows(AssertionError.class, () -> addressBook.assign(new PersonBuilder().withUserId(902).build(),
+                lesson));
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void addPerson_personWithLessons_lessonsSeeStudent() {
+        Lesson lesson = new LessonBuilder().withLessonId(903).build();
+        addressBook.addLesson(lesson);
+        Person student = new PersonBuilder().withUserId(903).withLessons(lesson).build();
+
+        addressBook.addPerson(student);
+        assertTrue(lesson.hasStudent(student));
+        assertEquals(Collections.singleton(student), lesson.getStudents());
+    }
+
+    @Test
+    public void removePerson_assignedStudent_unassignedFromLessons() {
+        Person student = new PersonBuilder().withUserId(904).build();
+        Lesson lesson = new LessonBuilder().withLessonId(904).build();
+        addressBook.addPerson(student);
+        addressBook.addLesson(lesson);
+        addressBook.assign(student, lesson);
+
+        addressBook.removePerson(student);
+        assertFalse(lesson.hasStudent(student));
+        assertTrue(lesson.getStudents().isEmpty());
+        // the removed student still knows its lessons
+        assertTrue(student.hasLesson(lesson));
+    }
+
+    @Test
+    public void resetData_assignedStudents_copiedIndependently() {
+        AddressBook newData = new AddressBook();
+        Person student = new PersonBuilder().withUserId(905).build();
+        Lesson lesson = new LessonBuilder().withLessonId(905).build();
+        newData.addPerson(student);
+        newData.addLesson(lesson);
+        newData.assign(student, lesson);
+
+        addressBook.resetData(newData);
+        Person copiedStudent = addressBook.getPersonList().get(0);
+        Lesson copiedLesson = addressBook.getLessonList().get(0);
+        assertTrue(copiedStudent.hasLesson(copiedLesson));
+        assertTrue(copiedLesson.hasStudent(copiedStudent));
+
+        addressBook.unassign(copiedStudent, copiedLesson);
+        assertFalse(copiedStudent.hasLesson(copiedLesson));
+        assertTrue(student.hasLesson(lesson));
+        assertTrue(lesson.hasStudent(student));
+    }
+
+    @Test
+    public void addPerson_personInAnotherAddressBook_staysInThatAddressBook() {
+        AddressBook otherAddressBook = new AddressBook();
+        Person student = new PersonBuilder().withUserId(906).build();
+        Lesson lesson = new LessonBuilder().withLessonId(906).build();
+        otherAddressBook.addPerson(student);
+        otherAddressBook.addLesson(lesson);
+        otherAddressBook.assign(student, lesson);
+
+        addressBook.addPerson(student);
+        Person addedStudent = addressBook.getPersonList().get(0);
+        assertFalse(addedStudent == student);
+        assertEquals(student.getUserId(), addedStudent.getUserId());
+
+        // the student is still assigned in the address book it was in
+        assertTrue(student.hasLesson(lesson));
+        assertTrue(lesson.hasStudent(student));
+    }
+
+    @Test
+    public void setLesson_lessonMovedInTime_clashesFollowNewTime() {
+        Person student = new PersonBuilder().withUserId(906).build();
+        Lesson morning = new LessonBuilder().withLessonId(906).withDay("MON").withStartTime("0900")
+                .withEndTime("1000").build();
+        Lesson noon = new LessonBuilder().withLessonId(907).withDay("MON").withStartTime("1200")
+                .withEndTime("1300").build();
+        addressBook.addPerson(student);
+        addressBook.addLesson(morning);
+        addressBook.addLesson(noon);
+        addressBook.assign(student, morning);
+        addressBook.assign(student, noon);
+        assertFalse(student.hasClashingLessons());
+
+        Lesson lateMorning = new LessonBuilder(morning).withStartTime("1130").withEndTime("1230").build();
+        addressBook.setLesson(morning, lateMorning);
+        assertTrue(student.hasClashingLessons());
+        assertEquals(Optional.of(noon), student.getClashingLesson(lateMorning));
+
+        addressBook.removeLesson(noon);
+        assertFalse(student.hasClashingLessons());
+    }
+
+    @Test
+    public void getChangeLog_removeLesson_studentsRecordedAsChanged() {
+        Person student = new PersonBuilder().withUserId(908).build();
+        Person otherStudent = new PersonBuilder().withUserId(909).build();
+        Lesson lesson = new LessonBuilder().withLessonId(908).build();
+        addressBook.addPerson(student);
+        addressBook.addPerson(otherStudent);
+        addressBook.addLesson(lesson);
+        addressBook.assign(student, lesson);
+        long count = addressBook.getModificationCount();
+
+        addressBook.removeLesson(lesson);
+        ChangeLog changeLog = addressBook.getChangeLog().get();
+        assertEquals(Collections.singleton(student.getUserId()), changeLog.getPersonsChangedAfter(count));
+        assertEquals(Collections.singleton(lesson.getLessonId()), changeLog.getLessonsChangedAfter(count));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -122,6 +265,11 @@ public class AddressBookTest {
         public int getInitialMaxLessonId() {
             return 0;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,51 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.UserId;
+
+public class ChangeLogTest {
+
+    private final ChangeLog changeLog = new ChangeLog();
+
+    @Test
+    public void getChangedAfter_idsChangedAfterCount_returned() {
+        changeLog.recordPerson(new UserId(1), 1);
+        changeLog.recordPerson(new UserId(2), 2);
+        changeLog.recordLesson(new LessonId(1), 2);
+        changeLog.recordPerson(new UserId(1), 3);
+
+        assertEquals(Set.of(new UserId(1), new UserId(2)), changeLog.getPersonsChangedAfter(1));
+        assertEquals(Set.of(new UserId(1)), changeLog.getPersonsChangedAfter(2));
+        assertEquals(Collections.emptySet(), changeLog.getPersonsChangedAfter(3));
+        assertEquals(Set.of(new LessonId(1)), changeLog.getLessonsChangedAfter(1));
+        assertEquals(Collections.emptySet(), changeLog.getLessonsChangedAfter(2));
+    }
+
+    @Test
+    public void getChangedAfter_idsChangedRepeatedly_latestChangesKept() {
+        // enough changes to fill the log several times over, so that older changes are dropped
+        for (int count = 1; count <= 1000; count++) {
+            changeLog.recordPerson(new UserId(count % 10), count);
+        }
+
+        assertEquals(Set.of(new UserId(9), new UserId(0)), changeLog.getPersonsChangedAfter(998));
+        assertEquals(10, changeLog.getPersonsChangedAfter(0).size());
+        assertEquals(Collections.emptySet(), changeLog.getPersonsChangedAfter(1000));
+    }
+
+    @Test
+    public void hasSameOriginAs() {
+        assertTrue(changeLog.hasSameOriginAs(changeLog));
+        assertFalse(new ChangeLog().hasSameOriginAs(changeLog));
+        assertFalse(changeLog.hasSameOriginAs(null));
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.ENGLISH_LESSON;
+import static seedu.address.testutil.TypicalLessons.HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.MATH_LESSON;
+import static seedu.address.testutil.TypicalLessons.SCIENCE_LESSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.lesson.predicates.DayMatchesPredicate;
+import seedu.address.model.lesson.predicates.LessonOverlapsTimeWindowPredicate;
+import seedu.address.testutil.LessonBuilder;
+
+public class IndexedFilteredListTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final IndexedFilteredList<Lesson> filteredLessons =
+            new IndexedFilteredList<>(addressBook.getLessonList(), addressBook, addressBook::indexOf);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new IndexedFilteredList<Lesson>(null, addressBook, addressBook::indexOf));
+        assertThrows(NullPointerException.class, () ->
+                new IndexedFilteredList<>(addressBook.getLessonList(), null, addressBook::indexOf));
+        assertThrows(NullPointerException.class, () ->
+                new IndexedFilteredList<>(addressBook.getLessonList(), addressBook, null));
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> filteredLessons.setPredicate(null));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+                -> filteredLessons.asUnmodifiableObservableList().add(MATH_LESSON));
+    }
+
+    @Test
+    public void setPredicate_plainPredicate_scansSourceList() {
+        addressBook.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON, SCIENCE_LESSON));
+        filteredLessons.setPredicate(lesson -> lesson.getDay() != Day.TUE);
+        assertEquals(Arrays.asList(MATH_LESSON, SCIENCE_LESSON), filteredLessons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_indexedPredicate_onlyTestsCandidates() {
+        addressBook.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON, SCIENCE_LESSON, HISTORY_LESSON));
+        filteredLessons.setPredicate(new CandidatesOnlyPredicate(Arrays.asList(ENGLISH_LESSON, HISTORY_LESSON)));
+        assertEquals(Arrays.asList(ENGLISH_LESSON, HISTORY_LESSON), filteredLessons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanges_indexedPredicate_updatesView() {
+        addressBook.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON));
+        filteredLessons.setPredicate(new DayMatchesPredicate(Day.MON));
+        assertEquals(Collections.singletonList(MATH_LESSON), filteredLessons.asUnmodifiableObservableList());
+
+        addressBook.addLesson(HISTORY_LESSON);
+        assertEquals(Arrays.asList(MATH_LESSON, HISTORY_LESSON), filteredLessons.asUnmodifiableObservableList());
+
+        Lesson movedMath = new LessonBuilder(MATH_LESSON).withDay("TUE").build();
+        addressBook.setLesson(MATH_LESSON, movedMath);
+        assertEquals(Collections.singletonList(HISTORY_LESSON), filteredLessons.asUnmodifiableObservableList());
+
+        addressBook.removeLesson(HISTORY_LESSON);
+        assertEquals(Collections.emptyList(), filteredLessons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanges_showAll_onlyChangedElementsReported() {
+        addressBook.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON, SCIENCE_LESSON));
+        List<String> changes = new ArrayList<>();
+        filteredLessons.asUnmodifiableObservableList().addListener((ListChangeListener<Lesson>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":-" + change.getRemovedSize() + "+" + change.getAddedSize());
+            }
+        });
+
+        addressBook.addLesson(HISTORY_LESSON);
+        assertEquals(Collections.singletonList("3:-0+1"), changes);
+
+        changes.clear();
+        Lesson editedEnglish = new LessonBuilder(ENGLISH_LESSON).withVenue("Hall").build();
+        addressBook.setLesson(ENGLISH_LESSON, editedEnglish);
+        assertEquals(Collections.singletonList("1:-1+1"), changes);
+
+        changes.clear();
+        addressBook.removeLesson(MATH_LESSON);
+        assertEquals(Collections.singletonList("0:-1+0"), changes);
+        assertEquals(Arrays.asList(editedEnglish, SCIENCE_LESSON, HISTORY_LESSON),
+                filteredLessons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanges_plainPredicate_matchesFullScan() {
+        addressBook.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON, SCIENCE_LESSON));
+        Predicate<Lesson> notOnTuesday = lesson -> lesson.getDay() != Day.TUE;
+        filteredLessons.setPredicate(notOnTuesday);
+
+        addressBook.addLesson(HISTORY_LESSON);
+        addressBook.setLesson(SCIENCE_LESSON, new LessonBuilder(SCIENCE_LESSON).withDay("TUE").build());
+        addressBook.setLesson(ENGLISH_LESSON, new LessonBuilder(ENGLISH_LESSON).withDay("FRI").build());
+        addressBook.removeLesson(MATH_LESSON);
+
+        List<Lesson> expected = addressBook.getLessonList().stream().filter(notOnTuesday)
+                .collect(Collectors.toList());
+        assertEquals(expected, filteredLessons.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanges_orderedPredicate_keepsOrder() {
+        Lesson noon = new LessonBuilder().withLessonId(3201).withDay("THU").withStartTime("1200")
+                .withEndTime("1300").build();
+        Lesson morning = new LessonBuilder().withLessonId(3202).withDay("THU").withStartTime("0900")
+                .withEndTime("1000").build();
+        addressBook.addLesson(noon);
+        filteredLessons.setPredicate(new LessonOverlapsTimeWindowPredicate(Day.THU, Time.of("0800"),
+                Time.of("1400")));
+
+        // added after the lesson at noon, but shown before it
+        addressBook.addLesson(morning);
+        assertEquals(Arrays.asList(morning, noon), filteredLessons.asUnmodifiableObservableList());
+    }
+
+    /**
+     * An {@code IndexedPredicate} that fails the test if it is asked about a lesson outside its candidates.
+     */
+    private static class CandidatesOnlyPredicate implements IndexedPredicate<Lesson> {
+        private final Collection<Lesson> candidates;
+
+        CandidatesOnlyPredicate(Collection<Lesson> candidates) {
+            this.candidates = candidates;
+        }
+
+        @Override
+        public Collection<Lesson> getCandidates(AddressBook addressBook) {
+            return candidates;
+        }
+
+        @Override
+        public boolean test(Lesson lesson) {
+            if (!candidates.contains(lesson)) {
+                throw new AssertionError("Lesson outside the candidates was tested: " + lesson);
+            }
+            return true;
+        }
+    }
+}
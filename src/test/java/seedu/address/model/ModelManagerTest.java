@@ -11,10 +11,12 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
@@ -347,8 +349,12 @@ public class ModelManagerTest {
                 .withLessons(actualLesson1, actualLesson2)
                 .build();
 
-        // Execute setPerson - this should trigger setLesson for UI refresh
+        // Execute setPerson - this should refresh the lesson list once for both lessons
+        int[] lessonListChanges = {0};
+        modelManager.getFilteredLessonList().addListener((ListChangeListener<Lesson>) change ->
+                lessonListChanges[0]++);
         modelManager.setPerson(actualPerson, editedPerson);
+        assertEquals(1, lessonListChanges[0]);
 
         // Verify lessons' student sets are updated with new person instance
         Lesson lesson1InModel = modelManager.getFilteredLessonList().stream()
@@ -418,4 +424,42 @@ public class ModelManagerTest {
         assertEquals(editedPerson.getPhone(), personInModel.getPhone());
         assertEquals(0, personInModel.getLessons().size());
     }
+
+    @Test
+    public void getById_personInModel_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.getById(ALICE.getUserId()));
+        assertEquals(Optional.empty(), modelManager.getById(BENSON.getUserId()));
+    }
+
+    @Test
+    public void assign_copiesWithSameIds_linksInstancesInModel() {
+        Lesson lesson = new seedu.address.testutil.LessonBuilder().withLessonId(9101).build();
+        Person person = new seedu.address.testutil.PersonBuilder().withUserId(8101).build();
+        modelManager.addLesson(lesson);
+        modelManager.addPerson(person);
+
+        Lesson lessonCopy = new seedu.address.testutil.LessonBuilder(lesson).build();
+        Person personCopy = new seedu.address.testutil.PersonBuilder(person).build();
+        modelManager.assign(personCopy, lessonCopy);
+
+        assertTrue(person.hasLesson(lesson));
+        assertTrue(lesson.hasStudent(person));
+        assertFalse(personCopy.hasLesson(lesson));
+
+        modelManager.unassign(personCopy, lessonCopy);
+        assertFalse(person.hasLesson(lesson));
+        assertFalse(lesson.hasStudent(person));
+    }
+
+    @Test
+    public void assign_personNotInModel_throwsAssertionError() {
+        Lesson lesson = new seedu.address.testutil.LessonBuilder().withLessonId(9102).build();
+        modelManager.addLesson(lesson);
+        Person person = new seedu.address.testutil.PersonBuilder().withUserId(8102).build();
+
+        assertThrows(AssertionError.class, () -> modelManager.assign(person, lesson));
+        assertThrows(AssertionError.class, () -> modelManager.unassign(person, lesson));
+        assertFalse(lesson.hasStudent(person));
+    }
 }
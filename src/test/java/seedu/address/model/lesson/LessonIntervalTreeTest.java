@@ -0,0 +1,73 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class LessonIntervalTreeTest {
+
+    private final LessonIntervalTree tree = new LessonIntervalTree();
+
+    @Test
+    public void getOverlapping_emptyTree_returnsEmptyList() {
+        assertEquals(new ArrayList<>(), tree.getOverlapping(0, 1440));
+    }
+
+    @Test
+    public void getOverlapping_touchingLessons_excludesLessonsThatOnlyTouchWindow() {
+        Lesson morning = lesson(1, "0900", "1000");
+        Lesson noon = lesson(2, "1000", "1200");
+        Lesson afternoon = lesson(3, "1200", "1300");
+        tree.add(afternoon);
+        tree.add(morning);
+        tree.add(noon);
+
+        assertEquals(List.of(noon), tree.getOverlapping(600, 720));
+        assertEquals(List.of(morning, noon), tree.getOverlapping(540, 601));
+    }
+
+    @Test
+    public void getOverlapping_randomAddsAndRemoves_matchesLinearScan() {
+        Random random = new Random(42);
+        List<Lesson> lessons = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            int start = random.nextInt(1400);
+            int end = start + 1 + random.nextInt(Math.min(180, 1439 - start));
+            Lesson lesson = lesson(id, format(start), format(end));
+            lessons.add(lesson);
+            tree.add(lesson);
+            if (random.nextInt(4) == 0) {
+                Lesson removed = lessons.remove(random.nextInt(lessons.size()));
+                tree.remove(removed);
+            }
+        }
+
+        for (int query = 0; query < 200; query++) {
+            int from = random.nextInt(1400);
+            int to = from + 1 + random.nextInt(1439 - from);
+            List<Lesson> expected = lessons.stream()
+                    .filter(lesson -> lesson.getStartTime().toMinuteOfDay() < to
+                            && lesson.getEndTime().toMinuteOfDay() > from)
+                    .sorted(Comparator.comparingInt((Lesson lesson) -> lesson.getStartTime().toMinuteOfDay())
+                            .thenComparing(lesson -> lesson.getLessonId().value))
+                    .collect(Collectors.toList());
+            assertEquals(expected, tree.getOverlapping(from, to));
+        }
+    }
+
+    private static Lesson lesson(int id, String start, String end) {
+        return new LessonBuilder().withLessonId(id).withStartTime(start).withEndTime(end).build();
+    }
+
+    private static String format(int minuteOfDay) {
+        return String.format("%02d%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
@@ -13,13 +13,14 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.note.Note;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UserId;
+import seedu.address.testutil.LessonBuilder;
 
 public class LessonTest {
 
     private static final LessonId VALID_LESSON_ID = new LessonId(1001);
     private static final Day VALID_DAY = Day.MON;
-    private static final Time VALID_START_TIME = new Time("1400");
-    private static final Time VALID_END_TIME = new Time("1600");
+    private static final Time VALID_START_TIME = Time.of("1400");
+    private static final Time VALID_END_TIME = Time.of("1600");
     private static final Venue VALID_VENUE = new Venue("Blk 123 Computing Dr 1");
     private static final Note VALID_NOTE = new Note("Algebra basics");
 
@@ -74,8 +75,8 @@ public class LessonTest {
         assertFalse(lesson1.isSameLesson(null));
 
         // same lessonId -> returns true
-        Lesson lesson2 = new Lesson(VALID_LESSON_ID, Day.TUE, new Time("1000"),
-                new Time("1200"), new Venue("Different Venue"), new Note("Different note"));
+        Lesson lesson2 = new Lesson(VALID_LESSON_ID, Day.TUE, Time.of("1000"),
+                Time.of("1200"), new Venue("Different Venue"), new Note("Different note"));
         assertTrue(lesson1.isSameLesson(lesson2));
 
         // different lessonId -> returns false
@@ -114,13 +115,13 @@ public class LessonTest {
         assertFalse(lesson.equals(differentDay));
 
         // different startTime -> returns false
-        Lesson differentStartTime = new Lesson(VALID_LESSON_ID, VALID_DAY, new Time("1500"),
+        Lesson differentStartTime = new Lesson(VALID_LESSON_ID, VALID_DAY, Time.of("1500"),
                 VALID_END_TIME, VALID_VENUE, VALID_NOTE);
         assertFalse(lesson.equals(differentStartTime));
 
         // different endTime -> returns false
         Lesson differentEndTime = new Lesson(VALID_LESSON_ID, VALID_DAY, VALID_START_TIME,
-                new Time("1700"), VALID_VENUE, VALID_NOTE);
+                Time.of("1700"), VALID_VENUE, VALID_NOTE);
         assertFalse(lesson.equals(differentEndTime));
 
         // different venue -> returns false
@@ -199,6 +200,27 @@ public class LessonTest {
         assertTrue(lesson.hasStudent(studentA));
     }
 
+    @Test
+    public void overlaps() {
+        Lesson lesson = new LessonBuilder().withDay("MON").withStartTime("1000").withEndTime("1200").build();
+
+        // overlapping times on the same day -> returns true
+        assertTrue(lesson.overlaps(new LessonBuilder().withDay("MON").withStartTime("1130").withEndTime("1300")
+                .build()));
+        assertTrue(lesson.overlaps(new LessonBuilder().withDay("MON").withStartTime("1030").withEndTime("1100")
+                .build()));
+        assertTrue(lesson.overlaps(lesson));
+
+        // lessons that only touch -> returns false
+        assertFalse(lesson.overlaps(new LessonBuilder().withDay("MON").withStartTime("1200").withEndTime("1300")
+                .build()));
+        assertFalse(lesson.overlaps(new LessonBuilder().withDay("MON").withStartTime("0900").withEndTime("1000")
+                .build()));
+
+        // same times on a different day -> returns false
+        assertFalse(lesson.overlaps(new LessonBuilder().withDay("TUE").withStartTime("1000").withEndTime("1200")
+                .build()));
+    }
 
     /**
      * Asserts that two {@link Lesson} objects are equal in all user-facing fields.
@@ -0,0 +1,97 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Time.of(null));
+    }
+
+    @Test
+    public void of_invalidTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Time.of("2400"));
+    }
+
+    @Test
+    public void of_sameTime_sameInstance() {
+        assertSame(Time.of("0930"), Time.of("0930"));
+    }
+
+    @Test
+    public void fromTrusted_validTime_sameInstanceAsOf() {
+        assertSame(Time.of("0000"), Time.fromTrusted("0000"));
+        assertSame(Time.of("1745"), Time.fromTrusted("1745"));
+        assertSame(Time.of("2359"), Time.fromTrusted("2359"));
+    }
+
+    @Test
+    public void toString_validTime_hhmmFormat() {
+        assertEquals("0000", Time.of("0000").toString());
+        assertEquals("0905", Time.of("0905").toString());
+        assertEquals("2359", Time.of("2359").toString());
+    }
+
+    @Test
+    public void isValidTime() {
+        // null time
+        assertThrows(NullPointerException.class, () -> Time.isValidTime(null));
+
+        // invalid times
+        assertFalse(Time.isValidTime("")); // empty string
+        assertFalse(Time.isValidTime("930")); // too short
+        assertFalse(Time.isValidTime("09300")); // too long
+        assertFalse(Time.isValidTime("09:3")); // non-digit
+        assertFalse(Time.isValidTime("2400")); // midnight is 0000
+        assertFalse(Time.isValidTime("2500")); // hour out of range
+        assertFalse(Time.isValidTime("0960")); // minute out of range
+        assertFalse(Time.isValidTime("\u0660\u0669\u0663\u0660")); // non-ASCII digits
+
+        // valid times
+        assertTrue(Time.isValidTime("0000"));
+        assertTrue(Time.isValidTime("0930"));
+        assertTrue(Time.isValidTime("2359"));
+    }
+
+    @Test
+    public void toMinuteOfDay() {
+        assertEquals(0, Time.of("0000").toMinuteOfDay());
+        assertEquals(9 * 60 + 30, Time.of("0930").toMinuteOfDay());
+        assertEquals(23 * 60 + 59, Time.of("2359").toMinuteOfDay());
+    }
+
+    @Test
+    public void isBeforeandEquals() {
+        Time morning = Time.of("0930");
+        assertTrue(morning.isBeforeandEquals(Time.of("1000")));
+        assertTrue(morning.isBeforeandEquals(Time.of("0930")));
+        assertFalse(morning.isBeforeandEquals(Time.of("0900")));
+    }
+
+    @Test
+    public void equals() {
+        Time time = Time.of("0930");
+
+        // same values -> returns true
+        assertTrue(time.equals(Time.of("0930")));
+
+        // same object -> returns true
+        assertTrue(time.equals(time));
+
+        // null -> returns false
+        assertFalse(time.equals(null));
+
+        // different types -> returns false
+        assertFalse(time.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(time.equals(Time.of("1030")));
+    }
+}
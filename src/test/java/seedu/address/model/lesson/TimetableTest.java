@@ -0,0 +1,78 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class TimetableTest {
+
+    private final Timetable timetable = new Timetable();
+
+    @Test
+    public void getClashingLesson() {
+        Lesson morning = lesson(1, "MON", "0900", "1000");
+        Lesson noon = lesson(2, "MON", "1200", "1300");
+        timetable.add(morning);
+        timetable.add(noon);
+
+        assertEquals(Optional.of(morning), timetable.getClashingLesson(lesson(3, "MON", "0930", "1100")));
+        assertEquals(Optional.of(noon), timetable.getClashingLesson(lesson(4, "MON", "1100", "1230")));
+
+        // touching lessons do not clash
+        assertEquals(Optional.empty(), timetable.getClashingLesson(lesson(5, "MON", "1000", "1200")));
+
+        // same time on another day
+        assertEquals(Optional.empty(), timetable.getClashingLesson(lesson(6, "TUE", "0900", "1000")));
+
+        // a lesson does not clash with itself
+        assertEquals(Optional.empty(), timetable.getClashingLesson(morning));
+    }
+
+    @Test
+    public void getClashingLesson_timetableAlreadyOverlapping_findsLessonStartingEarlier() {
+        Lesson longMorning = lesson(1, "THU", "0900", "1200");
+        Lesson shortMorning = lesson(2, "THU", "1000", "1100");
+        timetable.add(longMorning);
+        timetable.add(shortMorning);
+
+        // the lesson starting just before ends first, but the one starting earlier still overlaps
+        assertEquals(Optional.of(longMorning), timetable.getClashingLesson(lesson(3, "THU", "1130", "1200")));
+    }
+
+    @Test
+    public void hasClashingLessons() {
+        Lesson morning = lesson(1, "WED", "0800", "1200");
+        Lesson noon = lesson(2, "WED", "1200", "1300");
+        Lesson lateMorning = lesson(3, "WED", "1100", "1130");
+        timetable.add(noon);
+        timetable.add(morning);
+        assertFalse(timetable.hasClashingLessons());
+
+        timetable.add(lateMorning);
+        assertTrue(timetable.hasClashingLessons());
+
+        timetable.remove(lateMorning);
+        assertFalse(timetable.hasClashingLessons());
+    }
+
+    @Test
+    public void add_sameLessonTwice_keptOnce() {
+        Lesson morning = lesson(1, "FRI", "0900", "1000");
+        timetable.add(morning);
+        timetable.add(morning);
+        assertFalse(timetable.hasClashingLessons());
+
+        timetable.remove(morning);
+        assertTrue(timetable.isEmpty());
+    }
+
+    private static Lesson lesson(int id, String day, String start, String end) {
+        return new LessonBuilder().withLessonId(id).withDay(day).withStartTime(start).withEndTime(end).build();
+    }
+}
@@ -4,17 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.ENGLISH_LESSON;
+import static seedu.address.testutil.TypicalLessons.HISTORY_LESSON;
 import static seedu.address.testutil.TypicalLessons.MATH_LESSON;
 import static seedu.address.testutil.TypicalLessons.SCIENCE_LESSON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
+import seedu.address.testutil.LessonBuilder;
 
 public class UniqueLessonListTest {
 
@@ -36,6 +42,69 @@ public class UniqueLessonListTest {
         assertTrue(uniqueLessonList.contains(MATH_LESSON));
     }
 
+    @Test
+    public void getById_nullLessonId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueLessonList.getById(null));
+    }
+
+    @Test
+    public void getById_lessonInList_returnsLesson() {
+        uniqueLessonList.add(MATH_LESSON);
+        assertEquals(Optional.of(MATH_LESSON), uniqueLessonList.getById(MATH_LESSON.getLessonId()));
+        assertEquals(Optional.empty(), uniqueLessonList.getById(SCIENCE_LESSON.getLessonId()));
+    }
+
+    @Test
+    public void getLessonsOn_nullDay_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueLessonList.getLessonsOn(null));
+    }
+
+    @Test
+    public void getLessonsOn_lessonsOnSeveralDays_returnsOnlyThatDayInListOrder() {
+        uniqueLessonList.setLessons(Arrays.asList(HISTORY_LESSON, ENGLISH_LESSON, MATH_LESSON));
+        assertEquals(Arrays.asList(HISTORY_LESSON, MATH_LESSON), uniqueLessonList.getLessonsOn(Day.MON));
+        assertEquals(Collections.singletonList(ENGLISH_LESSON), uniqueLessonList.getLessonsOn(Day.TUE));
+        assertEquals(Collections.emptyList(), uniqueLessonList.getLessonsOn(Day.SUN));
+    }
+
+    @Test
+    public void getLessonsOn_afterMutations_staysInSyncWithList() {
+        uniqueLessonList.add(MATH_LESSON);
+        uniqueLessonList.add(ENGLISH_LESSON);
+        uniqueLessonList.add(HISTORY_LESSON);
+
+        // moving a lesson to another day keeps its position relative to the other lessons
+        Lesson movedEnglish = new LessonBuilder(ENGLISH_LESSON).withDay("MON").build();
+        uniqueLessonList.setLesson(ENGLISH_LESSON, movedEnglish);
+        assertEquals(Arrays.asList(MATH_LESSON, movedEnglish, HISTORY_LESSON), uniqueLessonList.getLessonsOn(Day.MON));
+        assertEquals(Collections.emptyList(), uniqueLessonList.getLessonsOn(Day.TUE));
+
+        uniqueLessonList.remove(MATH_LESSON);
+        assertEquals(Arrays.asList(movedEnglish, HISTORY_LESSON), uniqueLessonList.getLessonsOn(Day.MON));
+
+        uniqueLessonList.add(MATH_LESSON);
+        assertEquals(Arrays.asList(movedEnglish, HISTORY_LESSON, MATH_LESSON), uniqueLessonList.getLessonsOn(Day.MON));
+    }
+
+    @Test
+    public void getLessonsOverlapping_afterMutations_staysInSyncWithList() {
+        // MATH_LESSON is MON 1400-1600 and HISTORY_LESSON is MON 0900-1100
+        uniqueLessonList.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON, HISTORY_LESSON));
+        assertEquals(Arrays.asList(HISTORY_LESSON, MATH_LESSON),
+                uniqueLessonList.getLessonsOverlapping(Day.MON, Time.of("1000"), Time.of("1500")));
+
+        Lesson laterHistory = new LessonBuilder(HISTORY_LESSON).withStartTime("1700").withEndTime("1800").build();
+        uniqueLessonList.setLesson(HISTORY_LESSON, laterHistory);
+        assertEquals(Collections.singletonList(MATH_LESSON),
+                uniqueLessonList.getLessonsOverlapping(Day.MON, Time.of("1000"), Time.of("1500")));
+
+        uniqueLessonList.remove(MATH_LESSON);
+        assertEquals(Collections.emptyList(),
+                uniqueLessonList.getLessonsOverlapping(Day.MON, Time.of("1000"), Time.of("1500")));
+        assertEquals(Collections.emptyList(),
+                uniqueLessonList.getLessonsOverlapping(Day.SUN, Time.of("0000"), Time.of("2359")));
+    }
+
     @Test
     public void add_nullLesson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLessonList.add(null));
@@ -63,6 +132,7 @@ public class UniqueLessonListTest {
         uniqueLessonList.remove(MATH_LESSON);
         UniqueLessonList expectedUniqueLessonList = new UniqueLessonList();
         assertEquals(expectedUniqueLessonList, uniqueLessonList);
+        assertFalse(uniqueLessonList.contains(MATH_LESSON));
     }
 
     @Test
@@ -92,6 +162,8 @@ public class UniqueLessonListTest {
         UniqueLessonList expectedUniqueLessonList = new UniqueLessonList();
         expectedUniqueLessonList.add(SCIENCE_LESSON);
         assertEquals(expectedUniqueLessonList, uniqueLessonList);
+        assertFalse(uniqueLessonList.contains(MATH_LESSON));
+        assertEquals(Optional.of(SCIENCE_LESSON), uniqueLessonList.getById(SCIENCE_LESSON.getLessonId()));
     }
 
     @Test
@@ -100,6 +172,33 @@ public class UniqueLessonListTest {
         assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.setLessons(listWithDuplicateLessons));
     }
 
+    @Test
+    public void setLessons_listWithSeveralDuplicates_reportsEveryConflictingIdOnce() {
+        List<Lesson> lessons = Arrays.asList(SCIENCE_LESSON, MATH_LESSON, SCIENCE_LESSON, MATH_LESSON, MATH_LESSON);
+        DuplicateLessonException exception = new DuplicateLessonException(Arrays.asList(
+                SCIENCE_LESSON.getLessonId(), MATH_LESSON.getLessonId()));
+        assertThrows(DuplicateLessonException.class, exception.getMessage(), ()
+                -> uniqueLessonList.setLessons(lessons));
+        assertEquals(Collections.emptyList(), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_afterManyRemovals_keepsListOrder() {
+        uniqueLessonList.add(ENGLISH_LESSON);
+        for (int i = 0; i < 100; i++) {
+            uniqueLessonList.add(MATH_LESSON);
+            uniqueLessonList.remove(MATH_LESSON);
+        }
+        uniqueLessonList.add(HISTORY_LESSON);
+        uniqueLessonList.add(MATH_LESSON);
+
+        assertEquals(Arrays.asList(ENGLISH_LESSON, HISTORY_LESSON, MATH_LESSON),
+                uniqueLessonList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueLessonList.indexOf(MATH_LESSON));
+        uniqueLessonList.remove(ENGLISH_LESSON);
+        assertEquals(1, uniqueLessonList.indexOf(MATH_LESSON));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -110,4 +209,30 @@ public class UniqueLessonListTest {
     public void toStringMethod() {
         assertEquals(uniqueLessonList.asUnmodifiableObservableList().toString(), uniqueLessonList.toString());
     }
+
+    @Test
+    public void markUpdated_lessonsInList_reportedInOneChange() {
+        uniqueLessonList.add(MATH_LESSON);
+        uniqueLessonList.add(ENGLISH_LESSON);
+        uniqueLessonList.add(HISTORY_LESSON);
+        uniqueLessonList.remove(MATH_LESSON);
+        List<Integer> updatedPositions = new ArrayList<>();
+        int[] changeCount = {0};
+        uniqueLessonList.asUnmodifiableObservableList().addListener((ListChangeListener<Lesson>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    updatedPositions.add(i);
+                }
+            }
+        });
+
+        // MATH_LESSON is no longer in the list, so only the positions of the other two are reported
+        uniqueLessonList.markUpdated(Arrays.asList(HISTORY_LESSON.getLessonId(), MATH_LESSON.getLessonId(),
+                ENGLISH_LESSON.getLessonId()));
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(0, 1), updatedPositions);
+        assertEquals(Arrays.asList(ENGLISH_LESSON, HISTORY_LESSON), uniqueLessonList.asUnmodifiableObservableList());
+    }
 }
@@ -2,12 +2,23 @@ package seedu.address.model.lesson.exceptions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.lesson.LessonId;
+
 public class DuplicateLessonExceptionTest {
     @Test
     public void testExceptionMessage() {
         DuplicateLessonException exception = new DuplicateLessonException();
         assertEquals("Operation would result in duplicate lessons", exception.getMessage());
     }
+
+    @Test
+    public void testExceptionMessage_withDuplicateIds() {
+        DuplicateLessonException exception = new DuplicateLessonException(
+                Arrays.asList(new LessonId(3), new LessonId(7)));
+        assertEquals("Operation would result in duplicate lessons with ids: [3, 7]", exception.getMessage());
+    }
 }
@@ -8,8 +8,11 @@ import static seedu.address.testutil.TypicalLessons.HISTORY_LESSON;
 import static seedu.address.testutil.TypicalLessons.MATH_LESSON;
 import static seedu.address.testutil.TypicalLessons.SCIENCE_LESSON;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.lesson.Day;
 
 public class DayMatchesPredicateTest {
@@ -56,6 +59,14 @@ public class DayMatchesPredicateTest {
         assertFalse(predicate.test(SCIENCE_LESSON));
     }
 
+    @Test
+    public void getCandidates_returnsLessonsOnThatDayOnly() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON, SCIENCE_LESSON, HISTORY_LESSON));
+        assertEquals(Arrays.asList(MATH_LESSON, HISTORY_LESSON),
+                new DayMatchesPredicate(Day.MON).getCandidates(addressBook));
+    }
+
     @Test
     public void test_allDays_worksCorrectly() {
         // Test MON
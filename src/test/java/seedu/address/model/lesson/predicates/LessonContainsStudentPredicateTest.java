@@ -9,10 +9,15 @@ import static seedu.address.testutil.TypicalLessons.getLessonWithStudents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class LessonContainsStudentPredicateTest {
 
@@ -67,6 +72,24 @@ public class LessonContainsStudentPredicateTest {
         assertTrue(bobPredicate.test(lessonWithStudents));
     }
 
+    @Test
+    public void getCandidates_returnsLessonsOfStudentInListOrder() {
+        AddressBook addressBook = new AddressBook();
+        Person student = new PersonBuilder().withUserId(4101).build();
+        Lesson first = new LessonBuilder().withLessonId(4102).build();
+        Lesson second = new LessonBuilder().withLessonId(4101).build();
+        Lesson notAssigned = new LessonBuilder().withLessonId(4103).build();
+        addressBook.addPerson(student);
+        addressBook.addLesson(first);
+        addressBook.addLesson(second);
+        addressBook.addLesson(notAssigned);
+        addressBook.assign(student, second);
+        addressBook.assign(student, first);
+
+        assertEquals(Arrays.asList(first, second),
+                new LessonContainsStudentPredicate(student).getCandidates(addressBook));
+    }
+
     @Test
     public void toStringMethod() {
         Person alice = ALICE;
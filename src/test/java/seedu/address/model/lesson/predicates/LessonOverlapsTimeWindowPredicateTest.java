@@ -0,0 +1,100 @@
+package seedu.address.model.lesson.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.ENGLISH_LESSON;
+import static seedu.address.testutil.TypicalLessons.HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.MATH_LESSON;
+import static seedu.address.testutil.TypicalLessons.SCIENCE_LESSON;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Time;
+
+public class LessonOverlapsTimeWindowPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new LessonOverlapsTimeWindowPredicate(null, Time.of("1000"), Time.of("1100")));
+    }
+
+    @Test
+    public void equals() {
+        LessonOverlapsTimeWindowPredicate firstPredicate =
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1000"), Time.of("1200"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1000"), Time.of("1200"))));
+        assertEquals(firstPredicate.hashCode(),
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1000"), Time.of("1200")).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different day -> returns false
+        assertFalse(firstPredicate.equals(
+                new LessonOverlapsTimeWindowPredicate(Day.TUE, Time.of("1000"), Time.of("1200"))));
+
+        // different window -> returns false
+        assertFalse(firstPredicate.equals(
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1000"), Time.of("1300"))));
+    }
+
+    @Test
+    public void test_lessonOverlapsWindow_returnsTrue() {
+        // MATH_LESSON is MON 1400-1600
+        assertTrue(new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1500"), Time.of("1700"))
+                .test(MATH_LESSON));
+        assertTrue(new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1300"), Time.of("1401"))
+                .test(MATH_LESSON));
+        assertTrue(new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1430"), Time.of("1445"))
+                .test(MATH_LESSON));
+    }
+
+    @Test
+    public void test_lessonDoesNotOverlapWindow_returnsFalse() {
+        // window ends when the lesson starts
+        assertFalse(new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1200"), Time.of("1400"))
+                .test(MATH_LESSON));
+
+        // window starts when the lesson ends
+        assertFalse(new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1600"), Time.of("1800"))
+                .test(MATH_LESSON));
+
+        // different day
+        assertFalse(new LessonOverlapsTimeWindowPredicate(Day.TUE, Time.of("1400"), Time.of("1600"))
+                .test(MATH_LESSON));
+    }
+
+    @Test
+    public void getCandidates_returnsOverlappingLessonsByStartTime() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setLessons(Arrays.asList(MATH_LESSON, ENGLISH_LESSON, SCIENCE_LESSON, HISTORY_LESSON));
+        assertEquals(Arrays.asList(HISTORY_LESSON, MATH_LESSON),
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("0800"), Time.of("2000"))
+                        .getCandidates(addressBook));
+    }
+
+    @Test
+    public void toStringMethod() {
+        LessonOverlapsTimeWindowPredicate predicate =
+                new LessonOverlapsTimeWindowPredicate(Day.MON, Time.of("1000"), Time.of("1200"));
+        String expected = LessonOverlapsTimeWindowPredicate.class.getCanonicalName()
+                + "{day=MON, from=1000, to=1200}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -29,6 +29,9 @@ public class NameTest {
         assertFalse(Name.isValidName(" ")); // spaces only
         assertFalse(Name.isValidName("^")); // only non-alphanumeric characters
         assertFalse(Name.isValidName("peter*")); // contains non-alphanumeric characters
+        assertFalse(Name.isValidName(" peter")); // starts with a space
+        assertFalse(Name.isValidName("peter\tjack")); // contains whitespace other than spaces
+        assertFalse(Name.isValidName("Zo\u00eb")); // contains non-ASCII letters
 
         // build a name with >200 characters
         StringBuilder invalidLengthName = new StringBuilder();
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private static final String[] NAME_PARTS = {"Alice", "Alan", "Ali", "Bob", "Bobby", "Carl", "Carla", "Lina",
+        "Tan", "Tang", "Ng", "Ngo", "Meier", "Meyer", "Kurz", "Kunz"};
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @Test
+    public void find_emptyIndex_returnsEmptyList() {
+        assertEquals(new ArrayList<>(), index.find("alice"));
+    }
+
+    @Test
+    public void find_trigramsPresentButNotAdjacent_excludesPerson() {
+        // "Ali Lin" contains both trigrams of "alin", but not next to each other
+        Person aliLin = person(1, "Ali Lin");
+        Person alina = person(2, "Alina Tan");
+        index.add(aliLin, 0);
+        index.add(alina, 1);
+
+        assertEquals(List.of(alina), index.find("alin"));
+        assertEquals(List.of(aliLin, alina), index.find("LIN"));
+    }
+
+    @Test
+    public void find_shortKeyword_checksEveryName() {
+        Person ng = person(1, "Ng Wei");
+        Person tang = person(2, "Tang Li");
+        Person bob = person(3, "Bob");
+        index.add(ng, 0);
+        index.add(tang, 1);
+        index.add(bob, 2);
+
+        assertEquals(List.of(ng, tang), index.find(" nG "));
+        assertEquals(List.of(ng, tang, bob), index.find(""));
+    }
+
+    @Test
+    public void find_personReaddedAtOldSequence_keepsPosition() {
+        Person first = person(1, "Alice Tan");
+        Person second = person(2, "Bob Tan");
+        Person third = person(3, "Carl Tan");
+        index.add(first, 0);
+        index.add(second, 1);
+        index.add(third, 2);
+
+        Person renamed = person(2, "Bobby Ng");
+        index.remove(1);
+        index.add(renamed, 1);
+
+        assertEquals(List.of(first, third), index.find("tan"));
+        assertEquals(List.of(renamed), index.find("bobby"));
+        assertEquals(List.of(first, renamed, third), index.find(""));
+    }
+
+    @Test
+    public void find_randomAddsReplacesAndRemoves_matchesLinearScan() {
+        Random random = new Random(42);
+        // the id of each person doubles as its sequence, so persons are kept in id order
+        List<Person> persons = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            Person added = person(id, randomName(random));
+            persons.add(added);
+            index.add(added, id);
+            int operation = random.nextInt(5);
+            if (operation == 0) {
+                Person removed = persons.remove(random.nextInt(persons.size()));
+                index.remove(removed.getUserId().value);
+            } else if (operation == 1) {
+                int position = random.nextInt(persons.size());
+                int sequence = persons.get(position).getUserId().value;
+                Person edited = person(sequence, randomName(random));
+                persons.set(position, edited);
+                index.remove(sequence);
+                index.add(edited, sequence);
+            }
+        }
+
+        for (int query = 0; query < 200; query++) {
+            String name = randomName(random).toLowerCase();
+            int start = random.nextInt(name.length());
+            String keyword = name.substring(start, start + 1 + random.nextInt(Math.min(8, name.length() - start)));
+            List<Person> expected = persons.stream()
+                    .filter(person -> person.getName().fullName.toLowerCase().contains(keyword.trim()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.find(keyword));
+        }
+    }
+
+    private static Person person(int id, String name) {
+        return new PersonBuilder().withUserId(id).withName(name).build();
+    }
+
+    private static String randomName(Random random) {
+        return NAME_PARTS[random.nextInt(NAME_PARTS.length)] + " " + NAME_PARTS[random.nextInt(NAME_PARTS.length)];
+    }
+}
@@ -13,11 +13,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonId;
+import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -101,6 +105,14 @@ public class PersonTest {
         assertEquals(expected, ALICE.toString());
     }
 
+    @Test
+    public void addLesson_personInAddressBook_throwsAssertionError() {
+        Person person = new PersonBuilder().build();
+        new AddressBook().addPerson(person);
+        assertThrows(AssertionError.class, () -> person.addLesson(new LessonBuilder().build()));
+        assertThrows(AssertionError.class, () -> person.removeLesson(new LessonBuilder().build()));
+    }
+
     @Test
     public void replaceLesson_withNull_throwsIllegalValueException() throws Exception {
         Lesson placeholderLesson = Lesson.getPlaceholderLesson(new LessonId(1001));
@@ -124,6 +136,59 @@ public class PersonTest {
         assertFalse(person.hasLesson(lessonB));
     }
 
+    @Test
+    public void getClashingLesson_overlappingLessonOnSameDay_returnsClashingLesson() {
+        Lesson morning = new LessonBuilder().withLessonId(3001).withDay("MON").withStartTime("0900")
+                .withEndTime("1000").build();
+        Lesson noon = new LessonBuilder().withLessonId(3002).withDay("MON").withStartTime("1200")
+                .withEndTime("1300").build();
+        Person person = new PersonBuilder().withLessons(morning, noon).build();
+
+        // overlaps the lesson before it
+        Lesson lateMorning = new LessonBuilder().withLessonId(3003).withDay("MON").withStartTime("0930")
+                .withEndTime("1100").build();
+        assertEquals(Optional.of(morning), person.getClashingLesson(lateMorning));
+
+        // overlaps the lesson after it
+        Lesson beforeNoon = new LessonBuilder().withLessonId(3004).withDay("MON").withStartTime("1100")
+                .withEndTime("1230").build();
+        assertEquals(Optional.of(noon), person.getClashingLesson(beforeNoon));
+
+        // fits exactly between the two lessons
+        Lesson midMorning = new LessonBuilder().withLessonId(3005).withDay("MON").withStartTime("1000")
+                .withEndTime("1200").build();
+        assertEquals(Optional.empty(), person.getClashingLesson(midMorning));
+
+        // same time on another day
+        Lesson tuesday = new LessonBuilder(morning).withLessonId(3006).withDay("TUE").build();
+        assertEquals(Optional.empty(), person.getClashingLesson(tuesday));
+    }
+
+    @Test
+    public void hasClashingLessons() throws Exception {
+        Lesson morning = new LessonBuilder().withLessonId(3101).withDay("WED").withStartTime("0800")
+                .withEndTime("1200").build();
+        Lesson noon = new LessonBuilder().withLessonId(3102).withDay("WED").withStartTime("1200")
+                .withEndTime("1300").build();
+        Person person = new PersonBuilder().withLessons(noon, morning).build();
+        assertFalse(person.hasClashingLessons());
+
+        // a lesson inside the long morning lesson clashes with it
+        Lesson lateMorning = new LessonBuilder().withLessonId(3103).withDay("WED").withStartTime("1100")
+                .withEndTime("1130").build();
+        Lesson earlyMorning = new LessonBuilder().withLessonId(3104).withDay("WED").withStartTime("0900")
+                .withEndTime("0930").build();
+        person.addLesson(lateMorning);
+        assertTrue(person.hasClashingLessons());
+
+        person.removeLesson(lateMorning);
+        assertFalse(person.hasClashingLessons());
+
+        // the timetable follows lessons that are replaced
+        person.replaceLesson(noon, earlyMorning);
+        assertTrue(person.hasClashingLessons());
+        assertFalse(person.hasLesson(noon));
+    }
 
     /**
      * Asserts that two {@link Person} objects are equal in all user-facing fields.
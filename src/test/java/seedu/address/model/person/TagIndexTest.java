@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final String[] TAG_NAMES = {"sec1", "sec2", "sec3", "math", "physics", "chem", "weekend"};
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void find_emptyIndex_returnsEmptyList() {
+        assertEquals(new ArrayList<>(), index.findWithAllTags(List.of(new Tag("math"))));
+        assertEquals(new ArrayList<>(), index.findWithAnyTag(List.of(new Tag("math"))));
+    }
+
+    @Test
+    public void find_noTags_matchesEveryPersonForAllAndNoneForAny() {
+        Person tagged = person(1, "math");
+        Person untagged = person(2);
+        index.add(tagged, 0);
+        index.add(untagged, 1);
+
+        assertEquals(List.of(tagged, untagged), index.findWithAllTags(List.of()));
+        assertEquals(List.of(), index.findWithAnyTag(List.of()));
+    }
+
+    @Test
+    public void add_afterRemove_reusesOrdinalButKeepsSequenceOrder() {
+        Person first = person(1, "math");
+        Person second = person(2, "math");
+        Person third = person(3, "math", "chem");
+        index.add(first, 0);
+        index.add(second, 1);
+        index.remove(first);
+        index.add(third, 2);
+
+        assertEquals(List.of(second, third), index.findWithAnyTag(List.of(new Tag("math"))));
+        assertEquals(List.of(third), index.findWithAllTags(List.of(new Tag("math"), new Tag("chem"))));
+        assertEquals(List.of(), index.findWithAllTags(List.of(new Tag("math"), new Tag("sec1"))));
+    }
+
+    @Test
+    public void find_randomAddsAndRemoves_matchesLinearScan() {
+        Random random = new Random(42);
+        // the id of each person doubles as its sequence, so persons are kept in id order
+        List<Person> persons = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            Person added = person(id, randomTagNames(random));
+            persons.add(added);
+            index.add(added, id);
+            if (random.nextInt(3) == 0) {
+                index.remove(persons.remove(random.nextInt(persons.size())));
+            }
+        }
+
+        for (int query = 0; query < 200; query++) {
+            Set<Tag> tags = Arrays.stream(randomTagNames(random)).map(Tag::new).collect(Collectors.toSet());
+            List<Person> expectedAll = persons.stream()
+                    .filter(person -> person.getTags().containsAll(tags))
+                    .collect(Collectors.toList());
+            List<Person> expectedAny = persons.stream()
+                    .filter(person -> tags.stream().anyMatch(person.getTags()::contains))
+                    .collect(Collectors.toList());
+            assertEquals(expectedAll, index.findWithAllTags(tags));
+            assertEquals(expectedAny, index.findWithAnyTag(tags));
+        }
+    }
+
+    private static Person person(int id, String... tagNames) {
+        return new PersonBuilder().withUserId(id).withTags(tagNames).build();
+    }
+
+    private static String[] randomTagNames(Random random) {
+        return random.ints(random.nextInt(4), 0, TAG_NAMES.length)
+                .distinct()
+                .mapToObj(i -> TAG_NAMES[i])
+                .toArray(String[]::new);
+    }
+}
@@ -4,19 +4,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_NOTE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +53,18 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getById_nullUserId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getById(null));
+    }
+
+    @Test
+    public void getById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getById(ALICE.getUserId()));
+        assertEquals(Optional.empty(), uniquePersonList.getById(BOB.getUserId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -100,6 +118,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -125,6 +145,14 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withNote(VALID_STUDENT_NOTE_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
     }
 
     @Test
@@ -154,6 +182,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Optional.of(BOB), uniquePersonList.getById(BOB.getUserId()));
     }
 
     @Test
@@ -162,6 +192,115 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsEveryConflictingIdOnce() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, editedAlice, CARL, BOB, ALICE);
+        DuplicatePersonException exception = new DuplicatePersonException(Arrays.asList(ALICE.getUserId(),
+                BOB.getUserId()));
+        assertThrows(DuplicatePersonException.class, exception.getMessage(), ()
+                -> uniquePersonList.setPersons(persons));
+        assertEquals(Collections.emptyList(), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_afterEditsAndRemovals_returnsMatchesInListOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.getPersonsWithNameContaining("L"));
+
+        Person renamedBob = new PersonBuilder(BOB).withName("Bob Carlson").build();
+        uniquePersonList.setPerson(BOB, renamedBob);
+        assertEquals(Arrays.asList(renamedBob, CARL), uniquePersonList.getPersonsWithNameContaining("carl"));
+
+        uniquePersonList.remove(CARL);
+        assertEquals(Collections.singletonList(renamedBob), uniquePersonList.getPersonsWithNameContaining("carl"));
+
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE));
+        assertEquals(Arrays.asList(CARL, ALICE), uniquePersonList.getPersonsWithNameContaining("l"));
+    }
+
+    @Test
+    public void getPersonsWithTags_afterEditsAndRemovals_returnsMatchesInListOrder() {
+        Tag friends = new Tag("friends");
+        Tag friend = new Tag(VALID_TAG_FRIEND);
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.getPersonsWithAnyTag(Arrays.asList(friends,
+                husband)));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.getPersonsWithAllTags(Arrays.asList(friend,
+                husband)));
+
+        Person taggedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, taggedCarl);
+        uniquePersonList.remove(BOB);
+        assertEquals(Arrays.asList(ALICE, taggedCarl), uniquePersonList.getPersonsWithAnyTag(Arrays.asList(friends,
+                husband)));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsWithAllTags(Arrays.asList(friend, husband)));
+
+        // the ordinal freed by BOB is reused, but results still follow list order
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(taggedCarl, BOB), uniquePersonList.getPersonsWithAllTags(Arrays.asList(husband)));
+    }
+
+    @Test
+    public void markUpdated_personsInList_reportedInOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        List<Integer> updatedPositions = new ArrayList<>();
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    updatedPositions.add(i);
+                }
+            }
+        });
+
+        // ALICE is no longer in the list, so only the positions of BOB and CARL are reported
+        uniquePersonList.markUpdated(Arrays.asList(CARL.getUserId(), ALICE.getUserId(), BOB.getUserId()));
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(0, 1), updatedPositions);
+        assertEquals(Arrays.asList(BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_afterRemove_replacesAtShiftedPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_afterManyRemovals_keepsListOrder() {
+        uniquePersonList.add(ALICE);
+        for (int i = 0; i < 100; i++) {
+            uniquePersonList.add(BOB);
+            uniquePersonList.remove(BOB);
+        }
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+
+        assertEquals(Arrays.asList(ALICE, CARL, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.getPersonsWithNameContaining("L"));
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, BOB),
+                uniquePersonList.getPersonsWithAnyTag(Arrays.asList(new Tag(VALID_TAG_HUSBAND))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,79 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.DANIEL_2;
+import static seedu.address.testutil.TypicalPersons.DANIEL_3;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class HasTagsPredicateTest {
+
+    private static final Set<Tag> FRIENDS_AND_OWES_MONEY = Set.of(new Tag("friends"), new Tag("owesMoney"));
+
+    @Test
+    public void equals() {
+        HasTagsPredicate allPredicate = new HasTagsPredicate(FRIENDS_AND_OWES_MONEY, true);
+
+        // same object -> returns true
+        assertTrue(allPredicate.equals(allPredicate));
+
+        // same values -> returns true
+        assertTrue(allPredicate.equals(new HasTagsPredicate(FRIENDS_AND_OWES_MONEY, true)));
+
+        // different types -> returns false
+        assertFalse(allPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(allPredicate.equals(null));
+
+        // different mode -> returns false
+        assertFalse(allPredicate.equals(new HasTagsPredicate(FRIENDS_AND_OWES_MONEY, false)));
+
+        // different tags -> returns false
+        assertFalse(allPredicate.equals(new HasTagsPredicate(Set.of(new Tag("friends")), true)));
+    }
+
+    @Test
+    public void test_matchesAll_requiresEveryTag() {
+        HasTagsPredicate predicate = new HasTagsPredicate(FRIENDS_AND_OWES_MONEY, true);
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends", "owesMoney", "colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void test_matchesAny_requiresSomeTag() {
+        HasTagsPredicate predicate = new HasTagsPredicate(FRIENDS_AND_OWES_MONEY, false);
+        assertTrue(predicate.test(new PersonBuilder().withTags("owesMoney").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void getCandidates_returnsPersonsWithTagsInListOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(Arrays.asList(BENSON),
+                new HasTagsPredicate(FRIENDS_AND_OWES_MONEY, true).getCandidates(addressBook));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, DANIEL_2, DANIEL_3),
+                new HasTagsPredicate(FRIENDS_AND_OWES_MONEY, false).getCandidates(addressBook));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HasTagsPredicate predicate = new HasTagsPredicate(Set.of(new Tag("friends")), false);
+        String expected = HasTagsPredicate.class.getCanonicalName() + "{tags=[[friends]], matchesAll=false}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -3,12 +3,17 @@ package seedu.address.model.person.predicates;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -39,6 +44,14 @@ public class NameContainsKeywordPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void getCandidates_returnsPersonsWithNameContainingKeyword() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(Arrays.asList(BENSON, DANIEL),
+                new NameContainsKeywordPredicate("MEIER").getCandidates(addressBook));
+        assertEquals(Collections.emptyList(), new NameContainsKeywordPredicate("zzz").getCandidates(addressBook));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
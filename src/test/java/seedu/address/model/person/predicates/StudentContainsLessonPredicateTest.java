@@ -8,10 +8,15 @@ import static seedu.address.testutil.TypicalLessons.MATH_LESSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getStudentWithLessons;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class StudentContainsLessonPredicateTest {
 
@@ -64,6 +69,24 @@ public class StudentContainsLessonPredicateTest {
         assertTrue(englishPredicate.test(aliceWithMathAndEnglish));
     }
 
+    @Test
+    public void getCandidates_returnsStudentsOfLessonInListOrder() {
+        AddressBook addressBook = new AddressBook();
+        Lesson lesson = new LessonBuilder().withLessonId(4001).build();
+        Person first = new PersonBuilder().withUserId(4002).build();
+        Person second = new PersonBuilder().withUserId(4001).build();
+        Person notAssigned = new PersonBuilder().withUserId(4003).build();
+        addressBook.addLesson(lesson);
+        addressBook.addPerson(first);
+        addressBook.addPerson(second);
+        addressBook.addPerson(notAssigned);
+        addressBook.assign(second, lesson);
+        addressBook.assign(first, lesson);
+
+        assertEquals(Arrays.asList(first, second),
+                new StudentContainsLessonPredicate(lesson).getCandidates(addressBook));
+    }
+
     @Test
     public void toStringMethod() {
         Lesson lesson = MATH_LESSON;
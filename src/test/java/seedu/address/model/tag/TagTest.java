@@ -39,6 +39,8 @@ public class TagTest {
         assertFalse(Tag.isValidTagName("")); // empty string
         assertFalse(Tag.isValidTagName("   ")); // only spaces
         assertFalse(Tag.isValidTagName("friend@")); // contains non-alphanumeric character
+        assertFalse(Tag.isValidTagName("\t\n")); // only whitespace
+        assertFalse(Tag.isValidTagName("caf\u00e9")); // contains non-ASCII letters
 
         // valid tag names
         assertTrue(Tag.isValidTagName("friend")); // alphabets only
@@ -46,6 +48,7 @@ public class TagTest {
         assertTrue(Tag.isValidTagName("best friend")); // with space
         assertTrue(Tag.isValidTagName("close friend group")); // with multiple spaces
         assertTrue(Tag.isValidTagName("12345")); // numbers only
+        assertTrue(Tag.isValidTagName(" friend\t")); // with surrounding whitespace
     }
 
     @Test
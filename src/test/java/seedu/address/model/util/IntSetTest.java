@@ -0,0 +1,114 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+
+import org.junit.jupiter.api.Test;
+
+public class IntSetTest {
+
+    @Test
+    public void add_valuesInAnyOrder_keptInAscendingOrder() {
+        IntSet set = new IntSet();
+        assertTrue(set.add(5));
+        assertTrue(set.add(1));
+        assertTrue(set.add(9));
+        assertTrue(set.add(3));
+        assertTrue(set.add(7));
+
+        // already present
+        assertFalse(set.add(3));
+
+        assertEquals(5, set.size());
+        assertArrayEquals(new int[] {1, 3, 5, 7, 9}, set.toArray());
+        assertEquals(1, set.get(0));
+        assertEquals(9, set.get(4));
+    }
+
+    @Test
+    public void remove() {
+        IntSet set = new IntSet();
+        set.add(2);
+        set.add(4);
+        set.add(6);
+
+        assertTrue(set.remove(4));
+        assertFalse(set.remove(4));
+        assertFalse(set.contains(4));
+        assertArrayEquals(new int[] {2, 6}, set.toArray());
+
+        set.remove(2);
+        set.remove(6);
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void contains() {
+        IntSet set = new IntSet();
+        assertFalse(set.contains(0));
+
+        set.add(0);
+        set.add(-3);
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-3));
+        assertFalse(set.contains(3));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        IntSet set = new IntSet();
+        set.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(-1));
+    }
+
+    @Test
+    public void iterator_valuesInAscendingOrder() {
+        IntSet set = new IntSet();
+        set.add(3);
+        set.add(1);
+        PrimitiveIterator.OfInt iterator = set.iterator();
+        assertEquals(1, iterator.nextInt());
+        assertEquals(3, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void iterator_setChanged_throwsConcurrentModificationException() {
+        IntSet set = new IntSet();
+        set.add(1);
+        set.add(2);
+        PrimitiveIterator.OfInt iterator = set.iterator();
+        iterator.nextInt();
+        set.remove(2);
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    @Test
+    public void equals() {
+        IntSet set = new IntSet();
+        set.add(1);
+        set.add(2);
+        IntSet sameValues = new IntSet();
+        sameValues.add(2);
+        sameValues.add(1);
+        // spare capacity is not compared
+        sameValues.add(3);
+        sameValues.remove(3);
+
+        assertTrue(set.equals(set));
+        assertTrue(set.equals(sameValues));
+        assertEquals(set.hashCode(), sameValues.hashCode());
+
+        assertFalse(set.equals(null));
+        assertFalse(set.equals(5));
+        assertNotEquals(set, new IntSet());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SequencePositionsTest {
+
+    @Test
+    public void positionOf_afterAddsAndRemoves_countsEarlierElements() {
+        SequencePositions positions = new SequencePositions();
+        for (int sequence = 0; sequence < 5; sequence++) {
+            positions.add(sequence);
+        }
+        assertEquals(0, positions.positionOf(0));
+        assertEquals(4, positions.positionOf(4));
+
+        positions.remove(1);
+        assertEquals(0, positions.positionOf(0));
+        assertEquals(1, positions.positionOf(2));
+        assertEquals(3, positions.positionOf(4));
+
+        // a sequence number can be taken again, as when an edited element takes the place of the original
+        positions.add(1);
+        assertEquals(2, positions.positionOf(2));
+
+        positions.clear();
+        positions.add(3);
+        assertEquals(0, positions.positionOf(3));
+    }
+
+    @Test
+    public void positionOf_growingAndShrinking_matchesList() {
+        SequencePositions positions = new SequencePositions();
+        List<Integer> list = new ArrayList<>();
+        Random random = new Random(0);
+        int nextSequence = 0;
+        for (int step = 0; step < 2000; step++) {
+            if (list.isEmpty() || random.nextInt(3) > 0) {
+                positions.add(nextSequence);
+                list.add(nextSequence++);
+            } else {
+                positions.remove(list.remove(random.nextInt(list.size())));
+            }
+        }
+
+        for (int position = 0; position < list.size(); position++) {
+            assertEquals(position, positions.positionOf(list.get(position)));
+        }
+    }
+}
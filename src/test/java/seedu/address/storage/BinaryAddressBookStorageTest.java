@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_noSnapshotOrJsonFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(BinaryAddressBookStorage.getSnapshotPath(jsonFilePath)));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        for (Lesson lesson : original.getLessonList()) {
+            Lesson lessonReadBack = readBack.getLessonList().stream().filter(lesson::isSameLesson).findFirst().get();
+            assertEquals(lesson.getStudents(), lessonReadBack.getStudents());
+        }
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_readsJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertToJson_snapshotPresent_jsonFileUpdatedAndSnapshotDeleted() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(new AddressBook());
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        new BinaryAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage.convertToJson(jsonFilePath);
+        assertFalse(Files.exists(BinaryAddressBookStorage.getSnapshotPath(jsonFilePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Files.writeString(BinaryAddressBookStorage.getSnapshotPath(jsonFilePath), "{\"persons\": []}");
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path snapshotPath = BinaryAddressBookStorage.getSnapshotPath(jsonFilePath);
+        new BinaryAddressBookStorage(jsonFilePath).saveAddressBook(TypicalAddressBook.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidNameInSnapshot_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(BinaryAddressBookSnapshot.MAGIC);
+            out.writeInt(BinaryAddressBookSnapshot.VERSION);
+            out.writeInt(1);
+            out.writeInt(1);
+            for (String field : new String[] {"R@chel", "98765432", "rachel@example.com", ""}) {
+                byte[] fieldBytes = field.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(fieldBytes.length);
+                out.write(fieldBytes);
+            }
+            out.writeInt(0); // tags
+            out.writeInt(0); // lessons
+        }
+        Files.write(BinaryAddressBookStorage.getSnapshotPath(jsonFilePath), bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook addressBook;
+    private Person amy;
+    private Person bob;
+    private Lesson math;
+    private Lesson science;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        amy = new PersonBuilder().withUserId(1).withName("Amy Bee").withTags("friends").build();
+        bob = new PersonBuilder().withUserId(2).withName("Bob Choo").build();
+        math = new LessonBuilder().withLessonId(1).withNote("Math").build();
+        science = new LessonBuilder().withLessonId(2).withDay("TUE").withNote("Science").build();
+
+        addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addLesson(math);
+        addressBook.addLesson(science);
+        addressBook.assign(amy, math);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        Person editedAmy = new PersonBuilder(amy).withPhone("91234567").build();
+        addressBook.setPerson(amy, editedAmy);
+        storage.saveAddressBook(addressBook);
+        addressBook.assign(bob, science);
+        addressBook.unassign(editedAmy, math);
+        storage.saveAddressBook(addressBook);
+        Person carl = new PersonBuilder().withUserId(3).withName("Carl Kurz").build();
+        addressBook.addPerson(carl);
+        addressBook.assign(carl, math);
+        storage.saveAddressBook(addressBook);
+        addressBook.unassign(carl, math);
+        addressBook.removeLesson(math);
+        addressBook.removePerson(editedAmy);
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot is left alone, and every change is in the journal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(8, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalNotWritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsOfAddressBook_onlyChangesAppended() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(AddressBookSnapshot.of(addressBook));
+
+        addressBook.setPerson(amy, new PersonBuilder(amy).withPhone("91234567").build());
+        addressBook.assign(bob, science);
+        storage.saveAddressBook(AddressBookSnapshot.of(addressBook));
+        storage.saveAddressBook(AddressBookSnapshot.of(addressBook));
+
+        // one line for the edited person and one for the assignment, none for the unchanged snapshot
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_groupCommit_journalCompleteAfterFlush() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2, Long.MAX_VALUE, 60_000);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.assign(bob, math);
+        storage.saveAddressBook(addressBook);
+        addressBook.assign(bob, science);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        storage.waitForCompaction();
+
+        // the appends waiting for their disk flush were set aside and compacted like any other
+        assertFalse(Files.exists(JournaledAddressBookStorage.getSetAsideJournalPath(filePath)));
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2, Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.assign(bob, math);
+        storage.saveAddressBook(addressBook);
+        addressBook.assign(bob, science);
+        storage.saveAddressBook(addressBook);
+        storage.waitForCompaction();
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getSetAsideJournalPath(filePath)));
+        assertTrue(Files.readString(filePath).contains("Science"));
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+
+        // the storage keeps journaling after a compaction
+        addressBook.unassign(bob, math);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_setAsideJournalAlreadyInSnapshot_replayedWithoutChange() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.assign(bob, science);
+        addressBook.unassign(amy, math);
+        addressBook.removePerson(amy);
+        storage.saveAddressBook(addressBook);
+
+        // a compaction that wrote its snapshot but did not get to delete the set-aside journal
+        Path journal = JournaledAddressBookStorage.getJournalPath(filePath);
+        Files.copy(journal, JournaledAddressBookStorage.getSetAsideJournalPath(filePath));
+        Files.delete(journal);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDropped() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.assign(bob, science);
+        storage.saveAddressBook(addressBook);
+        Path journal = JournaledAddressBookStorage.getJournalPath(filePath);
+        Files.write(journal, "{\"type\":\"PUT_PER".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath);
+        assertReadBackEquals(addressBook, restartedStorage);
+
+        // records appended after recovering are still readable
+        addressBook.unassign(amy, math);
+        restartedStorage.saveAddressBook(addressBook);
+        assertReadBackEquals(addressBook, new JournaledAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Path journal = JournaledAddressBookStorage.getJournalPath(filePath);
+        Files.write(journal, "{\"type\":\"ASSIGN\",\"userId\":2}\n{\"type\":\"ASSIGN\",\"userId\":2,\"lessonId\":2}\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writtenInFull() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook, otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(otherFilePath)));
+        assertReadBackEquals(addressBook, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    private static void assertReadBackEquals(AddressBook expected, JournaledAddressBookStorage storage)
+            throws Exception {
+        assertReadBackEquals(expected, storage.readAddressBook().get());
+    }
+
+    private static void assertReadBackEquals(AddressBook expected, ReadOnlyAddressBook readBack) {
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(enrolmentsOf(expected), enrolmentsOf(readBack));
+    }
+
+    private static Map<UserId, Set<LessonId>> enrolmentsOf(ReadOnlyAddressBook addressBook) {
+        Map<UserId, Set<LessonId>> enrolments = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            enrolments.put(person.getUserId(), person.getLessons().stream()
+                    .map(Lesson::getLessonId)
+                    .collect(Collectors.toSet()));
+        }
+        return enrolments;
+    }
+}
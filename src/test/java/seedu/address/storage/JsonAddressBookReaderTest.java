@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_validFiles_sameAsJsonSerializableAddressBook() throws Exception {
+        for (String fileName : new String[] {"typicalPersonsAddressBook.json", "typicalLessonsAddressBook.json",
+                "circularReferenceAddressBook.json"}) {
+            Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+            AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                    .toModelType();
+            assertEquals(expected, JsonAddressBookReader.read(filePath), fileName);
+            assertEquals(expected, JsonAddressBookReader.read(filePath, true), fileName);
+        }
+    }
+
+    @Test
+    public void read_invalidFiles_throwsIllegalValueException() {
+        for (String fileName : new String[] {"invalidPersonAddressBook.json", "invalidLessonAddressBook.json",
+                "duplicatePersonAddressBook.json", "duplicateLessonAddressBook.json",
+                "personWithNonExistentLessonId.json", "lessonWithNonExistentStudentId.json"}) {
+            assertThrows(IllegalValueException.class, () ->
+                    JsonAddressBookReader.read(TEST_DATA_FOLDER.resolve(fileName)));
+            assertThrows(IllegalValueException.class, () ->
+                    JsonAddressBookReader.read(TEST_DATA_FOLDER.resolve(fileName), true));
+        }
+    }
+
+    @Test
+    public void read_lessonsBeforePersonsAndUnknownFields_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{\"version\": {\"major\": [1, 2]}, \"lessons\": [{\"lessonId\": 7, \"day\": \"FRI\","
+                + " \"startTime\": \"0900\", \"endTime\": \"1100\", \"venue\": \"Blk 1\", \"note\": \"\","
+                + " \"studentIds\": [3]}], \"persons\": [{\"userId\": 3, \"name\": \"John Doe\","
+                + " \"phone\": \"91234567\", \"email\": \"john@example.com\", \"note\": \"\", \"lessonIds\": [7]}]}");
+
+        AddressBook addressBook = JsonAddressBookReader.read(filePath);
+        Person person = addressBook.getById(new UserId(3)).get();
+        Lesson lesson = addressBook.getById(new LessonId(7)).get();
+        assertTrue(person.getLessons().stream().anyMatch(l -> l == lesson));
+        assertTrue(lesson.getStudents().stream().anyMatch(p -> p == person));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        String contents = Files.readAllLines(TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json")).stream()
+                .collect(Collectors.joining("\n"));
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, contents.substring(0, contents.length() / 2));
+
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+}
@@ -2,19 +2,24 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HexFormat;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.testutil.TypicalAddressBook;
@@ -85,6 +90,50 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void readAddressBook_changedSinceSaved_checkedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(TypicalAddressBook.getTypicalAddressBook());
+        assertTrue(Files.exists(JsonValidationStamp.getStampPath(filePath)));
+
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"), filePath,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataLoadingException.class, jsonAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_invalidTimeAfterStamp_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(TypicalAddressBook.getTypicalAddressBook());
+
+        // an unchecked read of this time would fail on its own, so the file must be read again and checked
+        String json = Files.readString(filePath)
+                .replaceFirst("\"startTime\" ?: ?\"\\d{4}\"", "\"startTime\" : \"9999\"");
+        assertTrue(json.contains("9999"));
+        Files.writeString(filePath, json);
+        assertThrows(DataLoadingException.class, jsonAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_matchingStamp_fieldsNotChecked() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"), filePath);
+        JsonUtil.saveJsonFile(new JsonValidationStamp(JsonValidationStamp.digestOf(filePath)),
+                JsonValidationStamp.getStampPath(filePath));
+
+        // the stamp vouches for the file, so the invalid name is taken as it is
+        assertEquals(1, new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().size());
+
+        // a stamp made under other constraints does not
+        JsonUtil.saveJsonFile(new JsonValidationStamp(
+                HexFormat.of().formatHex(JsonValidationStamp.digestOf(filePath)),
+                JsonValidationStamp.VALIDATION_VERSION + 1),
+                JsonValidationStamp.getStampPath(filePath));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_pretty_sameAsJsonSerializableAddressBook() throws Exception {
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        Path expectedFile = testFolder.resolve("expected.json");
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), expectedFile);
+
+        JsonAddressBookWriter.write(original, filePath, false);
+        assertEquals(Files.readString(expectedFile), Files.readString(filePath));
+    }
+
+    @Test
+    public void write_compact_singleLineReadBack() throws Exception {
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressbook.json");
+
+        JsonAddressBookWriter.write(original, filePath, true);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingFile_overwritten() throws Exception {
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressbook.json");
+
+        JsonAddressBookWriter.write(original, filePath, false);
+        JsonAddressBookWriter.write(new AddressBook(), filePath, true);
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+}
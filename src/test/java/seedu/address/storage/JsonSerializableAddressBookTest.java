@@ -5,6 +5,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -14,6 +15,7 @@ import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonTest;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonTest;
 import seedu.address.testutil.TypicalAddressBook;
@@ -147,4 +149,33 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_enrollmentOnlyOnPersonSide_notLinked() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(100, "John Doe", "91234567", "johndoe@example.com", "",
+                List.of(2000), List.of());
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(2000, "FRI", "0900", "1100", "Blk 111", "", List.of());
+        AddressBook addressBook = new JsonSerializableAddressBook(List.of(person), List.of(lesson)).toModelType();
+
+        assertEquals(0, addressBook.getPersonList().get(0).getLessons().size());
+        assertEquals(0, addressBook.getLessonList().get(0).getStudents().size());
+    }
+
+    @Test
+    public void toModelType_parallel_reportsFirstErrorInFileOrder() {
+        JsonAdaptedPerson valid = new JsonAdaptedPerson(1, "John Doe", "91234567", "johndoe@example.com", "",
+                List.of(), List.of());
+        JsonAdaptedPerson duplicate = new JsonAdaptedPerson(1, "Jane Doe", "91234567", "janedoe@example.com", "",
+                List.of(), List.of());
+        JsonAdaptedPerson invalidName = new JsonAdaptedPerson(2, "J@ne", "91234567", "jane@example.com", "",
+                List.of(), List.of());
+        JsonSerializableAddressBook duplicateFirst = new JsonSerializableAddressBook(
+                List.of(valid, duplicate, invalidName), List.of());
+        JsonSerializableAddressBook invalidFirst = new JsonSerializableAddressBook(
+                List.of(valid, invalidName, duplicate), List.of());
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                duplicateFirst.toModelType(true));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> invalidFirst.toModelType(true));
+    }
 }
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_noSegmentsOrJsonFile_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new SegmentedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        for (Lesson lesson : original.getLessonList()) {
+            Lesson lessonReadBack = readBack.getLessonList().stream().filter(lesson::isSameLesson).findFirst().get();
+            assertEquals(lesson.getStudents(), lessonReadBack.getStudents());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_onlyPersonsChanged_onlyPersonsSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Map<String, String> before = readManifest(filePath).getSegments();
+
+        storage.saveAddressBook(original);
+        assertEquals(before, readManifest(filePath).getSegments());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Map<String, String> after = readManifest(filePath).getSegments();
+        assertNotEquals(before.get("persons"), after.get("persons"));
+        assertEquals(before.get("lessons"), after.get("lessons"));
+        assertEquals(before.get("enrollments"), after.get("enrollments"));
+        assertFalse(Files.exists(SegmentedAddressBookStorage.getSegmentDirectory(filePath)
+                .resolve(before.get("persons"))));
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onlyLessonsChanged_personsNotSerialized() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Map<String, String> before = readManifest(filePath).getSegments();
+
+        original.addLesson(new LessonBuilder().withLessonId(2001).build());
+        storage.saveAddressBook(withoutPersonList(original));
+        Map<String, String> after = readManifest(filePath).getSegments();
+        assertEquals(before.get("persons"), after.get("persons"));
+        assertNotEquals(before.get("lessons"), after.get("lessons"));
+        assertEquals(before.get("enrollments"), after.get("enrollments"));
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_readsJsonFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(SegmentedAddressBookStorage.getSegmentDirectory(filePath)
+                .resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME)));
+    }
+
+    @Test
+    public void readAddressBook_enrollmentWithNonExistentLesson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new SegmentedAddressBookStorage(filePath).saveAddressBook(TypicalAddressBook.getTypicalAddressBook());
+        Path directory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        Files.writeString(directory.resolve(readManifest(filePath).getSegments().get("enrollments")),
+                "[ { \"lessonId\" : 9999, \"studentIds\" : [ ] } ]");
+
+        assertThrows(DataLoadingException.class, () -> new SegmentedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Returns a view of {@code addressBook} whose persons cannot be listed, to check that they are not serialized.
+     */
+    private static ReadOnlyAddressBook withoutPersonList(AddressBook addressBook) {
+        return new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                throw new AssertionError("The persons should not be serialized");
+            }
+
+            @Override
+            public ObservableList<Lesson> getLessonList() {
+                return addressBook.getLessonList();
+            }
+
+            @Override
+            public int getInitialMaxUserId() {
+                return addressBook.getInitialMaxUserId();
+            }
+
+            @Override
+            public int getInitialMaxLessonId() {
+                return addressBook.getInitialMaxLessonId();
+            }
+
+            @Override
+            public long getModificationCount() {
+                return addressBook.getModificationCount();
+            }
+
+            @Override
+            public Optional<ChangeLog> getChangeLog() {
+                return addressBook.getChangeLog();
+            }
+        };
+    }
+
+    private JsonSegmentManifest readManifest(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(SegmentedAddressBookStorage.getSegmentDirectory(filePath)
+                .resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME), JsonSegmentManifest.class).get();
+    }
+}
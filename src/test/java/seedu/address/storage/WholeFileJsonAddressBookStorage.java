@@ -0,0 +1,28 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Reads and saves an address book the way {@code JsonAddressBookStorage} did before it streamed its files: the whole
+ * file is held in memory as a string and as a {@code JsonSerializableAddressBook}. Kept for benchmarks to compare
+ * the streaming paths against.
+ */
+public class WholeFileJsonAddressBookStorage {
+
+    private WholeFileJsonAddressBookStorage() {}
+
+    public static AddressBook read(Path filePath) throws DataLoadingException, IllegalValueException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).orElseThrow().toModelType();
+    }
+
+    public static void save(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+}
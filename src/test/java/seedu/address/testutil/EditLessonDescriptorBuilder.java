@@ -48,7 +48,7 @@ public class EditLessonDescriptorBuilder {
      * Sets the {@code StartTime} of the {@code EditLessonDescriptor} that we are building.
      */
     public EditLessonDescriptorBuilder withStartTime(String startTime) {
-        descriptor.setStartTime(new Time(startTime));
+        descriptor.setStartTime(Time.of(startTime));
         return this;
     }
 
@@ -56,7 +56,7 @@ public class EditLessonDescriptorBuilder {
      * Sets the {@code EndTime} of the {@code EditLessonDescriptor} that we are building.
      */
     public EditLessonDescriptorBuilder withEndTime(String endTime) {
-        descriptor.setEndTime(new Time(endTime));
+        descriptor.setEndTime(Time.of(endTime));
         return this;
     }
 
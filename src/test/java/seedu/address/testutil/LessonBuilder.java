@@ -37,8 +37,8 @@ public class LessonBuilder {
     public LessonBuilder() {
         lessonId = new LessonId(DEFAULT_LESSONID);
         day = Day.valueOf(DEFAULT_DAY);
-        startTime = new Time(DEFAULT_STARTTIME);
-        endTime = new Time(DEFAULT_ENDTIME);
+        startTime = Time.of(DEFAULT_STARTTIME);
+        endTime = Time.of(DEFAULT_ENDTIME);
         venue = new Venue(DEFAULT_VENUE);
         note = new Note(DEFAULT_NOTE);
         students = new HashSet<>();
@@ -77,7 +77,7 @@ public class LessonBuilder {
      * Sets the {@code startTime} of the {@code Lesson} that we are building.
      */
     public LessonBuilder withStartTime(String startTime) {
-        this.startTime = new Time(startTime);
+        this.startTime = Time.of(startTime);
         return this;
     }
 
@@ -85,7 +85,7 @@ public class LessonBuilder {
      * Sets the {@code endTime} of the {@code Lesson} that we are building.
      */
     public LessonBuilder withEndTime(String endTime) {
-        this.endTime = new Time(endTime);
+        this.endTime = Time.of(endTime);
         return this;
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.testutil.stubs;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,7 +10,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UserId;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -95,6 +98,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<Person> getById(UserId userId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Lesson> getById(LessonId lessonId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         throw new AssertionError("This method should not be called.");